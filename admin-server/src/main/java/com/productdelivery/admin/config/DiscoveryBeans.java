@@ -1,43 +0,0 @@
-package com.productdelivery.admin.config;
-
-import org.apache.http.HttpHeaders;
-import org.springframework.cloud.netflix.eureka.RestTemplateTimeoutProperties;
-import org.springframework.cloud.netflix.eureka.http.DefaultEurekaClientHttpRequestFactorySupplier;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
-import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
-import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
-
-import java.util.List;
-
-@Configuration
-public class DiscoveryBeans {
-
-    @Bean
-    public DefaultEurekaClientHttpRequestFactorySupplier defaultEurekaClientHttpRequestFactorySupplier(
-            RestTemplateTimeoutProperties restTemplateTimeoutProperties,
-            ClientRegistrationRepository clientRegistrationRepository,
-            OAuth2AuthorizedClientService authorizedClientService
-    ) {
-        AuthorizedClientServiceOAuth2AuthorizedClientManager authorizedClientManager =
-                new AuthorizedClientServiceOAuth2AuthorizedClientManager(clientRegistrationRepository,
-                        authorizedClientService);
-
-        return new DefaultEurekaClientHttpRequestFactorySupplier(restTemplateTimeoutProperties, List.of(
-                (request, entity, context) -> {
-                    if (!request.containsHeader(HttpHeaders.AUTHORIZATION)) {
-                        OAuth2AuthorizedClient authorizeClient = authorizedClientManager.authorize(OAuth2AuthorizeRequest
-                                .withClientRegistrationId("discovery")
-                                .principal("admin-service")
-                                .build());
-
-                        request.setHeader(HttpHeaders.AUTHORIZATION,
-                                "Bearer %s".formatted(authorizeClient.getAccessToken().getTokenValue()));
-                    }
-                }
-        ));
-    }
-}
@@ -0,0 +1,9 @@
+package com.productdelivery.customerservice.client;
+
+import com.productdelivery.customerservice.model.ProductFeedback;
+import reactor.core.publisher.Mono;
+
+public interface ProductFeedbackClient {
+
+    Mono<ProductFeedback> findProductFeedbackByProductId(int productId);
+}
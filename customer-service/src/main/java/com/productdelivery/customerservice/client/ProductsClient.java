@@ -4,9 +4,13 @@ import com.productdelivery.customerservice.model.Product;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface ProductsClient {
 
     Flux<Product> findAllProducts(String filter);
 
+    Flux<Product> findProductsByIds(Collection<Integer> ids);
+
     Mono<Product> findProduct(int id);
 }
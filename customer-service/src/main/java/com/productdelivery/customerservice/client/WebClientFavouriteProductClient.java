@@ -6,15 +6,24 @@ import com.productdelivery.customerservice.model.FavouriteProduct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
 
 @RequiredArgsConstructor
 public class WebClientFavouriteProductClient implements FavouriteProductClient {
 
+    private static final Retry ADD_TO_FAVOURITES_RETRY = Retry.backoff(2, Duration.ofMillis(100))
+            .filter(exception -> exception instanceof WebClientRequestException ||
+                    exception instanceof WebClientResponseException responseException &&
+                            responseException.getStatusCode().is5xxServerError())
+            .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure());
+
     private final WebClient webClient;
 
     @Override
@@ -44,6 +53,7 @@ public class WebClientFavouriteProductClient implements FavouriteProductClient {
                 .bodyValue(new NewFavouriteProductPayload(productId))
                 .retrieve()
                 .bodyToMono(FavouriteProduct.class)
+                .retryWhen(ADD_TO_FAVOURITES_RETRY)
                 .onErrorMap(WebClientResponseException.BadRequest.class,
                         exception -> new ClientBadRequestException("An error occurred when adding an item to favorites",
                                 exception, ((List<String>) (exception.getResponseBodyAs(ProblemDetail.class))
@@ -0,0 +1,24 @@
+package com.productdelivery.customerservice.client;
+
+import com.productdelivery.customerservice.model.ProductFeedback;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class WebClientProductFeedbackClient implements ProductFeedbackClient {
+
+    private static final int FIRST_PAGE_SIZE = 20;
+
+    private final WebClient webClient;
+
+    @Override
+    public Mono<ProductFeedback> findProductFeedbackByProductId(int productId) {
+        return this.webClient
+                .get()
+                .uri("/feedback-api/product-feedback/by-product-id/{productId}?limit={limit}",
+                        productId, FIRST_PAGE_SIZE)
+                .retrieve()
+                .bodyToMono(ProductFeedback.class);
+    }
+}
@@ -15,13 +15,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebClientProductReviewsClient implements ProductReviewsClient {
 
+    private static final int FIRST_PAGE_SIZE = 20;
+
     private final WebClient webClient;
 
     @Override
     public Flux<ProductReview> findProductReviewsByProductId(Integer productId) {
         return this.webClient
                 .get()
-                .uri("/feedback-api/product-reviews/by-product-id/{productId}", productId)
+                .uri("/feedback-api/product-reviews/by-product-id/{productId}?limit={limit}", productId, FIRST_PAGE_SIZE)
                 .retrieve()
                 .bodyToFlux(ProductReview.class);
     }
@@ -2,31 +2,99 @@ package com.productdelivery.customerservice.client;
 
 import com.productdelivery.customerservice.model.Product;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
 @RequiredArgsConstructor
 public class WebClientProductsClient implements ProductsClient {
 
+    private static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
+    private static final int MAX_VALIDATED_PRODUCTS = 256;
+
+    private static final int MAX_IDS_PER_REQUEST = 100;
+
     private final WebClient webClient;
 
+    private final Map<Integer, ValidatedProduct> validatedProducts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, ValidatedProduct> eldest) {
+                    return this.size() > MAX_VALIDATED_PRODUCTS;
+                }
+            });
+
     @Override
     public Flux<Product> findAllProducts(String filter) {
+        return this.findProductsPage(filter, "0")
+                .expand(response -> Optional.ofNullable(response.getHeaders().getFirst(CONTINUATION_TOKEN_HEADER))
+                        .map(after -> this.findProductsPage(filter, after))
+                        .orElseGet(Mono::empty))
+                .flatMapIterable(response -> Objects.requireNonNullElse(response.getBody(), List.of()));
+    }
+
+    private Mono<ResponseEntity<List<Product>>> findProductsPage(String filter, String after) {
         return this.webClient.get()
-                .uri("/catalog-api/products?filter={filter}", filter)
+                .uri("/catalog-api/products?filter={filter}&after={after}", filter, after)
                 .retrieve()
-                .bodyToFlux(Product.class);
+                .toEntityList(Product.class);
+    }
+
+    @Override
+    public Flux<Product> findProductsByIds(Collection<Integer> ids) {
+        return Flux.fromIterable(ids)
+                .buffer(MAX_IDS_PER_REQUEST)
+                .concatMap(chunk -> this.webClient.get()
+                        .uri("/catalog-api/products?ids={ids}", StringUtils.collectionToCommaDelimitedString(chunk))
+                        .retrieve()
+                        .bodyToFlux(Product.class));
     }
 
     @Override
     public Mono<Product> findProduct(int id) {
-        return this.webClient.get()
-                .uri("/catalog-api/products/{productId}", id)
-                .retrieve()
-                .bodyToMono(Product.class)
-                .onErrorComplete(WebClientResponseException.NotFound.class);
+        return Mono.defer(() -> {
+                    ValidatedProduct validatedProduct = this.validatedProducts.get(id);
+                    return this.webClient.get()
+                            .uri("/catalog-api/products/{productId}", id)
+                            .headers(headers -> {
+                                if (validatedProduct != null) {
+                                    headers.setIfNoneMatch(validatedProduct.eTag());
+                                }
+                            })
+                            .retrieve()
+                            .toEntity(Product.class)
+                            .mapNotNull(response -> {
+                                if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && validatedProduct != null) {
+                                    return validatedProduct.product();
+                                }
+
+                                String eTag = response.getHeaders().getETag();
+                                if (eTag != null && response.getBody() != null) {
+                                    this.validatedProducts.put(id, new ValidatedProduct(eTag, response.getBody()));
+                                }
+                                return response.getBody();
+                            });
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, exception -> {
+                    this.validatedProducts.remove(id);
+                    return Mono.empty();
+                });
+    }
+
+    private record ValidatedProduct(String eTag, Product product) {
     }
 }
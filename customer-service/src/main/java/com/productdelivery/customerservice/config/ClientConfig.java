@@ -1,28 +1,36 @@
 package com.productdelivery.customerservice.config;
 
 import com.productdelivery.customerservice.client.WebClientFavouriteProductClient;
+import com.productdelivery.customerservice.client.WebClientProductFeedbackClient;
 import com.productdelivery.customerservice.client.WebClientProductReviewsClient;
 import com.productdelivery.customerservice.client.WebClientProductsClient;
+import com.productdelivery.oauth2client.AccessTokenExchangeFilterFunction;
+import com.productdelivery.oauth2client.AccessTokenProviders;
 import de.codecentric.boot.admin.client.config.ClientProperties;
 import de.codecentric.boot.admin.client.registration.ReactiveRegistrationClient;
 import de.codecentric.boot.admin.client.registration.RegistrationClient;
 import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
-import org.springframework.security.oauth2.client.AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager;
-import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientService;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServerOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.security.oauth2.client.web.server.ServerOAuth2AuthorizedClientRepository;
 import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@EnableConfigurationProperties(WebClientConnectionProperties.class)
 public class ClientConfig {
 
     @Bean
@@ -43,11 +51,46 @@ public class ClientConfig {
                 .filter(filter);
     }
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider catalogConnectionProvider(WebClientConnectionProperties properties) {
+        return connectionProvider("catalog", properties.catalog());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider feedbackConnectionProvider(WebClientConnectionProperties properties) {
+        return connectionProvider("feedback", properties.feedback());
+    }
+
+    static ConnectionProvider connectionProvider(String name, WebClientConnectionProperties.Connection connection) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(connection.maxConnections())
+                .pendingAcquireMaxCount(connection.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(connection.pendingAcquireTimeout())
+                .maxIdleTime(connection.maxIdleTime())
+                .maxLifeTime(connection.maxLifeTime())
+                .evictInBackground(connection.evictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    static ReactorClientHttpConnector clientConnector(ConnectionProvider connectionProvider,
+                                                      WebClientConnectionProperties.Connection connection) {
+        return new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                .protocol(connection.protocols().toArray(HttpProtocol[]::new))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connection.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(connection.responseTimeout())
+                .compress(connection.compress()));
+    }
+
     @Bean
     public WebClientProductsClient webClientProductsClient(
             @Value("${productdelivery.services.catalog.uri:http://localhost:8081}") String catalogBaseUrl,
-            WebClient.Builder productDeliveryServicesWebClientBuilder) {
+            WebClient.Builder productDeliveryServicesWebClientBuilder,
+            ConnectionProvider catalogConnectionProvider,
+            WebClientConnectionProperties properties) {
         return new WebClientProductsClient(productDeliveryServicesWebClientBuilder
+                .clientConnector(clientConnector(catalogConnectionProvider, properties.catalog()))
                 .baseUrl(catalogBaseUrl)
                 .build());
     }
@@ -55,9 +98,12 @@ public class ClientConfig {
     @Bean
     public WebClientFavouriteProductClient webClientFavouriteProductsClient(
             @Value("${productdelivery.services.feedback.uri:http://localhost:8084}") String feedbackBaseUrl,
-            WebClient.Builder productDeliveryServicesWebClientBuilder
+            WebClient.Builder productDeliveryServicesWebClientBuilder,
+            ConnectionProvider feedbackConnectionProvider,
+            WebClientConnectionProperties properties
     ) {
         return new WebClientFavouriteProductClient(productDeliveryServicesWebClientBuilder
+                .clientConnector(clientConnector(feedbackConnectionProvider, properties.feedback()))
                 .baseUrl(feedbackBaseUrl)
                 .build());
     }
@@ -65,9 +111,25 @@ public class ClientConfig {
     @Bean
     public WebClientProductReviewsClient webClientProductReviewsClient(
             @Value("${productdelivery.services.feedback.uri:http://localhost:8084}") String feedbackBaseUrl,
-            WebClient.Builder productDeliveryServicesWebClientBuilder
+            WebClient.Builder productDeliveryServicesWebClientBuilder,
+            ConnectionProvider feedbackConnectionProvider,
+            WebClientConnectionProperties properties
     ) {
         return new WebClientProductReviewsClient(productDeliveryServicesWebClientBuilder
+                .clientConnector(clientConnector(feedbackConnectionProvider, properties.feedback()))
+                .baseUrl(feedbackBaseUrl)
+                .build());
+    }
+
+    @Bean
+    public WebClientProductFeedbackClient webClientProductFeedbackClient(
+            @Value("${productdelivery.services.feedback.uri:http://localhost:8084}") String feedbackBaseUrl,
+            WebClient.Builder productDeliveryServicesWebClientBuilder,
+            ConnectionProvider feedbackConnectionProvider,
+            WebClientConnectionProperties properties
+    ) {
+        return new WebClientProductFeedbackClient(productDeliveryServicesWebClientBuilder
+                .clientConnector(clientConnector(feedbackConnectionProvider, properties.feedback()))
                 .baseUrl(feedbackBaseUrl)
                 .build());
     }
@@ -76,17 +138,10 @@ public class ClientConfig {
     @ConditionalOnProperty(name = "spring.boot.admin.client.enabled", havingValue = "true")
     public RegistrationClient registrationClient(
             ClientProperties clientProperties,
-            ReactiveClientRegistrationRepository clientRegistrationRepository,
-            ReactiveOAuth2AuthorizedClientService authorizedClientService
+            AccessTokenProviders accessTokenProviders
     ) {
-        ServerOAuth2AuthorizedClientExchangeFilterFunction filter =
-                new ServerOAuth2AuthorizedClientExchangeFilterFunction(
-                        new AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager(clientRegistrationRepository,
-                                authorizedClientService));
-        filter.setDefaultClientRegistrationId("metrics");
-
         return new ReactiveRegistrationClient(WebClient.builder()
-                .filter(filter)
+                .filter(new AccessTokenExchangeFilterFunction(accessTokenProviders, "metrics"))
                 .build(), clientProperties.getReadTimeout());
     }
 }
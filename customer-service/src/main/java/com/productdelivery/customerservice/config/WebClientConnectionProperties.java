@@ -0,0 +1,25 @@
+package com.productdelivery.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("productdelivery.web-client")
+public record WebClientConnectionProperties(@DefaultValue Connection catalog, @DefaultValue Connection feedback) {
+
+    public record Connection(
+            @DefaultValue("100") int maxConnections,
+            @DefaultValue("500") int pendingAcquireMaxCount,
+            @DefaultValue("2s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("15s") Duration evictInBackground,
+            @DefaultValue("2s") Duration connectTimeout,
+            @DefaultValue("5s") Duration responseTimeout,
+            @DefaultValue("HTTP11") List<HttpProtocol> protocols,
+            @DefaultValue("true") boolean compress) {
+    }
+}
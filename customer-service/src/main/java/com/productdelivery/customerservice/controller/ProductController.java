@@ -2,11 +2,13 @@ package com.productdelivery.customerservice.controller;
 
 
 import com.productdelivery.customerservice.client.FavouriteProductClient;
+import com.productdelivery.customerservice.client.ProductFeedbackClient;
 import com.productdelivery.customerservice.client.ProductReviewsClient;
 import com.productdelivery.customerservice.client.ProductsClient;
 import com.productdelivery.customerservice.client.exception.ClientBadRequestException;
 import com.productdelivery.customerservice.controller.payload.NewProductReviewPayload;
 import com.productdelivery.customerservice.model.Product;
+import com.productdelivery.customerservice.model.ProductFeedback;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,6 +27,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @Controller
@@ -33,12 +37,16 @@ import java.util.NoSuchElementException;
 @Slf4j
 public class ProductController {
 
+    private static final Duration FEEDBACK_TIMEOUT = Duration.ofSeconds(1);
+
     private final ProductsClient productsClient;
 
     private final FavouriteProductClient favouriteProductClient;
 
     private final ProductReviewsClient productReviewsClient;
 
+    private final ProductFeedbackClient productFeedbackClient;
+
     @ModelAttribute(name = "product", binding = false)
     public Mono<Product> loadProduct(@PathVariable("productId") int id) {
         return this.productsClient.findProduct(id)
@@ -54,16 +62,25 @@ public class ProductController {
     }
 
     @GetMapping
-    public Mono<String> getProductPage(@ModelAttribute("product") Mono<Product> productMono, Model model) {
-        model.addAttribute("inFavourite", false);
-        return productMono.flatMap(
-                product -> this.productReviewsClient.findProductReviewsByProductId(product.id())
-                        .collectList()
-                        .doOnNext(productReviews -> model.addAttribute("reviews", productReviews))
-                        .then(this.favouriteProductClient.findFavouriteProductByProductId(product.id())
-                                .doOnNext(favouriteProduct ->
-                                        model.addAttribute("inFavourite", true)))
-                        .thenReturn("customer/products/product"));
+    public Mono<String> getProductPage(@PathVariable("productId") int productId,
+                                       @ModelAttribute("product") Mono<Product> productMono, Model model) {
+        model.addAttribute("reviewsUnavailable", false);
+        Mono<ProductFeedback> feedbackMono = this.productFeedbackClient.findProductFeedbackByProductId(productId)
+                .timeout(FEEDBACK_TIMEOUT)
+                .onErrorResume(exception -> {
+                    log.warn("Product {} is rendered without feedback: {}", productId, exception.toString());
+                    model.addAttribute("reviewsUnavailable", true);
+                    return Mono.just(new ProductFeedback(List.of(), null, false));
+                });
+
+        return Mono.zip(productMono, feedbackMono)
+                .map(tuple -> {
+                    ProductFeedback feedback = tuple.getT2();
+                    model.addAttribute("reviews", feedback.reviews());
+                    model.addAttribute("ratingSummary", feedback.ratingSummary());
+                    model.addAttribute("inFavourite", feedback.inFavourite());
+                    return "customer/products/product";
+                });
     }
 
     @PostMapping("add-to-favourites")
@@ -3,6 +3,7 @@ package com.productdelivery.customerservice.controller;
 import com.productdelivery.customerservice.client.FavouriteProductClient;
 import com.productdelivery.customerservice.client.ProductsClient;
 import com.productdelivery.customerservice.model.FavouriteProduct;
+import com.productdelivery.customerservice.model.Product;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,6 +12,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("customer/products")
@@ -36,11 +41,21 @@ public class ProductsController {
         model.addAttribute("filter", filter);
         return this.favouriteProductClient.findFavouriteProducts()
                 .map(FavouriteProduct::productId)
-                .collectList()
-                .flatMap(favouriteProducts -> this.productsClient.findAllProducts(filter)
-                        .filter(product -> favouriteProducts.contains(product.id()))
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+                .flatMap(favouriteProductIds -> this.productsClient.findProductsByIds(favouriteProductIds)
+                        .filter(product -> favouriteProductIds.contains(product.id()) && matches(product, filter))
                         .collectList()
                         .doOnNext(products -> model.addAttribute("products", products)))
                 .thenReturn("customer/products/favourites");
     }
+
+    private static boolean matches(Product product, String filter) {
+        if (filter == null || filter.isBlank()) {
+            return true;
+        }
+
+        String query = filter.trim().toLowerCase(Locale.ROOT);
+        return product.title() != null && product.title().toLowerCase(Locale.ROOT).contains(query) ||
+                product.details() != null && product.details().toLowerCase(Locale.ROOT).contains(query);
+    }
 }
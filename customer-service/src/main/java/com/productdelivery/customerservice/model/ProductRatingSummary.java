@@ -0,0 +1,8 @@
+package com.productdelivery.customerservice.model;
+
+public record ProductRatingSummary(int productId, long count, long sum) {
+
+    public double average() {
+        return this.count == 0 ? 0 : (double) this.sum / this.count;
+    }
+}
@@ -45,36 +45,35 @@ class ProductControllerIT {
     @Test
     void getProductPage_ProductIsExists_ReturnsProductPage() {
         // given
-        WireMock.stubFor(WireMock.get("/feedback-api/product-reviews/by-product-id/1")
+        WireMock.stubFor(WireMock.get("/feedback-api/product-feedback/by-product-id/1?limit=20")
                 .willReturn(WireMock.okJson("""
-                                [
-                                    {
-                                        "id": "e7c637af-5dd0-48d8-9182-c44fcead7f92",
+                                {
+                                    "reviews": [
+                                        {
+                                            "id": "e7c637af-5dd0-48d8-9182-c44fcead7f92",
+                                            "productId": 1,
+                                            "rating": 5,
+                                            "review": "Very good!",
+                                            "userId": "bb7979cd-93fd-4792-a430-6a9c0106ae06"
+                                        },
+                                        {
+                                            "id": "fc9ce2c5-b9e5-490e-bb88-3211ebb6a31c",
+                                            "productId": 1,
+                                            "rating": 4,
+                                            "review": "Good",
+                                            "userId": "596fc2ba-4592-4882-bdea-e641feeae637"
+                                        }
+                                    ],
+                                    "ratingSummary": {
                                         "productId": 1,
-                                        "rating": 5,
-                                        "review": "Very good!",
-                                        "userId": "bb7979cd-93fd-4792-a430-6a9c0106ae06"
+                                        "count": 2,
+                                        "sum": 9,
+                                        "histogram": {"4": 1, "5": 1}
                                     },
-                                    {
-                                        "id": "fc9ce2c5-b9e5-490e-bb88-3211ebb6a31c",
-                                        "productId": 1,
-                                        "rating": 4,
-                                        "review": "Good",
-                                        "userId": "596fc2ba-4592-4882-bdea-e641feeae637"
-                                    }
-                                ]""")
+                                    "inFavourite": true
+                                }""")
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
 
-        WireMock.stubFor(WireMock.get("feedback-api/favourite-products/by-product-id/1")
-                .willReturn(created()
-                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                        .withBody("""
-                                {
-                                    "id": "1f55e227-a0b9-49ed-85b5-f5b280037591",
-                                    "productId": 1
-                                }
-                                """)));
-
         // when
         this.webTestClient
                 .mutateWith(mockUser())
@@ -85,8 +84,9 @@ class ProductControllerIT {
                 .expectStatus().isOk();
 
         WireMock.verify(getRequestedFor(urlPathMatching("/catalog-api/products/1")));
-        WireMock.verify(getRequestedFor(urlPathMatching("/feedback-api/product-reviews/by-product-id/1")));
-        WireMock.verify(getRequestedFor(urlPathMatching("/feedback-api/favourite-products/by-product-id/1")));
+        WireMock.verify(getRequestedFor(urlPathMatching("/feedback-api/product-feedback/by-product-id/1")));
+        WireMock.verify(0, getRequestedFor(urlPathMatching("/feedback-api/product-reviews/by-product-id/1")));
+        WireMock.verify(0, getRequestedFor(urlPathMatching("/feedback-api/favourite-products/by-product-id/1")));
     }
 
     @Test
@@ -2,25 +2,33 @@ package com.productdelivery.customerservice.controller;
 
 
 import com.productdelivery.customerservice.client.FavouriteProductClient;
+import com.productdelivery.customerservice.client.ProductFeedbackClient;
 import com.productdelivery.customerservice.client.ProductReviewsClient;
 import com.productdelivery.customerservice.client.ProductsClient;
 import com.productdelivery.customerservice.client.exception.ClientBadRequestException;
 import com.productdelivery.customerservice.controller.payload.NewProductReviewPayload;
 import com.productdelivery.customerservice.model.FavouriteProduct;
 import com.productdelivery.customerservice.model.Product;
+import com.productdelivery.customerservice.model.ProductFeedback;
+import com.productdelivery.customerservice.model.ProductRatingSummary;
 import com.productdelivery.customerservice.model.ProductReview;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.ui.ConcurrentModel;
-import reactor.core.publisher.Flux;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -44,6 +52,9 @@ class ProductControllerTest {
     @Mock
     ProductReviewsClient productReviewsClient;
 
+    @Mock
+    ProductFeedbackClient productFeedbackClient;
+
     @InjectMocks
     ProductController controller;
 
@@ -91,28 +102,68 @@ class ProductControllerTest {
                         1, 5, "Good stuff"),
                 new ProductReview(UUID.fromString("6029d9e6-d75c-42d2-a478-fa48f1384c99"),
                         1, 4, "No bad"));
+        var ratingSummary = new ProductRatingSummary(1, 2, 9);
 
-        doReturn(Flux.fromIterable(productReviews)).when(this.productReviewsClient)
-                .findProductReviewsByProductId(1);
-
-        var favouriteProduct =
-                new FavouriteProduct(UUID.fromString("9cace9c2-7304-49f4-9ff1-e1b66fa7ab3c"), 1);
-        doReturn(Mono.just(favouriteProduct)).when(this.favouriteProductClient).findFavouriteProductByProductId(1);
+        doReturn(Mono.just(new ProductFeedback(productReviews, ratingSummary, true)))
+                .when(this.productFeedbackClient).findProductFeedbackByProductId(1);
 
         // when
-        StepVerifier.create(this.controller.getProductPage(
+        StepVerifier.create(this.controller.getProductPage(1,
                         Mono.just(new Product(1, "Chocolate", "Delicious chocolate bar")), model))
                 // then
                 .expectNext("customer/products/product")
                 .verifyComplete();
 
         assertEquals(productReviews, model.getAttribute("reviews"));
+        assertEquals(ratingSummary, model.getAttribute("ratingSummary"));
         assertEquals(true, model.getAttribute("inFavourite"));
+        assertEquals(false, model.getAttribute("reviewsUnavailable"));
 
-        verify(this.productReviewsClient).findProductReviewsByProductId(1);
-        verify(this.favouriteProductClient).findFavouriteProductByProductId(1);
-        verifyNoMoreInteractions(this.productReviewsClient, this.favouriteProductClient);
-        verifyNoInteractions(this.productsClient);
+        verify(this.productFeedbackClient).findProductFeedbackByProductId(1);
+        verifyNoMoreInteractions(this.productFeedbackClient);
+        verifyNoInteractions(this.productsClient, this.productReviewsClient, this.favouriteProductClient);
+    }
+
+    @Test
+    void getProductPage_FeedbackIsUnavailable_ReturnsProductPageWithoutReviews() {
+        // given
+        var model = new ConcurrentModel();
+
+        doReturn(Mono.error(new WebClientRequestException(new ConnectException("Connection refused"),
+                HttpMethod.GET, URI.create("/feedback-api/product-feedback/by-product-id/1"), new HttpHeaders())))
+                .when(this.productFeedbackClient).findProductFeedbackByProductId(1);
+
+        // when
+        StepVerifier.create(this.controller.getProductPage(1,
+                        Mono.just(new Product(1, "Chocolate", "Delicious chocolate bar")), model))
+                // then
+                .expectNext("customer/products/product")
+                .verifyComplete();
+
+        assertEquals(List.of(), model.getAttribute("reviews"));
+        assertNull(model.getAttribute("ratingSummary"));
+        assertEquals(true, model.getAttribute("reviewsUnavailable"));
+        assertEquals(false, model.getAttribute("inFavourite"));
+    }
+
+    @Test
+    void getProductPage_FeedbackTimesOut_ReturnsProductPageWithoutReviews() {
+        // given
+        var model = new ConcurrentModel();
+
+        doReturn(Mono.never()).when(this.productFeedbackClient).findProductFeedbackByProductId(1);
+
+        // when
+        StepVerifier.withVirtualTime(() -> this.controller.getProductPage(1,
+                        Mono.just(new Product(1, "Chocolate", "Delicious chocolate bar")), model))
+                .thenAwait(Duration.ofSeconds(1))
+                // then
+                .expectNext("customer/products/product")
+                .verifyComplete();
+
+        assertEquals(List.of(), model.getAttribute("reviews"));
+        assertEquals(true, model.getAttribute("reviewsUnavailable"));
+        assertEquals(false, model.getAttribute("inFavourite"));
     }
 
     @Test
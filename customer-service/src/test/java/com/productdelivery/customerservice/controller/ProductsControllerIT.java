@@ -95,6 +95,22 @@ class ProductsControllerIT {
                         ]""")
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
 
+        WireMock.stubFor(WireMock.get(WireMock.urlPathMatching("/catalog-api/products"))
+                .withQueryParam("ids", WireMock.equalTo("1,3"))
+                .willReturn(WireMock.okJson("""
+                        [
+                            {
+                                "id": 1,
+                                "title": "Товар №1",
+                                "details": "Описание товара №1"
+                            },
+                            {
+                                "id": 3,
+                                "title": "Товар №3",
+                                "details": "Описание товара №3"
+                            }
+                        ]""")));
+
         // when
         this.webTestClient
                 .mutateWith(mockUser())
@@ -105,6 +121,8 @@ class ProductsControllerIT {
                 .expectStatus().isOk();
 
         WireMock.verify(WireMock.getRequestedFor(WireMock.urlPathMatching("/catalog-api/products"))
+                .withQueryParam("ids", WireMock.equalTo("1,3")));
+        WireMock.verify(0, WireMock.getRequestedFor(WireMock.urlPathMatching("/catalog-api/products"))
                 .withQueryParam("filter", WireMock.equalTo("товар")));
         WireMock.verify(WireMock.getRequestedFor(WireMock.urlPathMatching("/feedback-api/favourite-products")));
     }
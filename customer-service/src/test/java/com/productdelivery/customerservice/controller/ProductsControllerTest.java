@@ -14,6 +14,7 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -76,9 +77,8 @@ class ProductsControllerTest {
 
         doReturn(Flux.fromIterable(List.of(
                 new Product(1, "Товар №1", "Описание товара №1"),
-                new Product(2, "Товар №2", "Описание товара №2"),
-                new Product(3, "Товар №3", "Описание товара №3")
-        ))).when(this.productsClient).findAllProducts("товар");
+                new Product(2, "Товар №2", "Описание товара №2")
+        ))).when(this.productsClient).findProductsByIds(Set.of(1, 2));
 
         // when
         StepVerifier.create(this.controller.getFavouritesProductsPage(model, "товар"))
@@ -93,8 +93,31 @@ class ProductsControllerTest {
         ), model.getAttribute("products"));
 
         verify(this.favouriteProductClient).findFavouriteProducts();
-        verify(this.productsClient).findAllProducts("товар");
+        verify(this.productsClient).findProductsByIds(Set.of(1, 2));
         verifyNoMoreInteractions(this.favouriteProductClient, this.productsClient);
     }
 
+    @Test
+    void getFavouritesProductsPage_FilterIsSet_ReturnsMatchingFavouriteProducts() {
+        // given
+        var model = new ConcurrentModel();
+
+        doReturn(Flux.fromIterable(List.of(
+                new FavouriteProduct(UUID.fromString("4688e5a1-26f7-47b6-be6b-db103f7f00b3"), 1),
+                new FavouriteProduct(UUID.fromString("cf1a4d28-0ba3-4403-bacf-eb0fc267c2a2"), 2)
+        ))).when(this.favouriteProductClient).findFavouriteProducts();
+
+        doReturn(Flux.fromIterable(List.of(
+                new Product(1, "Товар №1", "Описание товара №1"),
+                new Product(2, "Чоколадка", "Вкуснейшая")
+        ))).when(this.productsClient).findProductsByIds(Set.of(1, 2));
+
+        // when
+        StepVerifier.create(this.controller.getFavouritesProductsPage(model, "ТОВАР"))
+                // then
+                .expectNext("customer/products/favourites")
+                .verifyComplete();
+
+        assertEquals(List.of(new Product(1, "Товар №1", "Описание товара №1")), model.getAttribute("products"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.productdelivery.feedbackservice.config;
+
+import com.productdelivery.feedbackservice.service.TimeOrderedIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.IdGenerator;
+
+@Configuration
+public class IdGeneratorBeans {
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return new TimeOrderedIdGenerator();
+    }
+}
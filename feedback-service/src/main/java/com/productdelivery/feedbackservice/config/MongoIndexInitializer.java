@@ -0,0 +1,34 @@
+package com.productdelivery.feedbackservice.config;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Brings the annotated indexes in line in the background, the migrations build the ones queries rely on
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndexes() {
+        MongoPersistentEntityIndexResolver indexResolver =
+                new MongoPersistentEntityIndexResolver(this.mongoTemplate.getConverter().getMappingContext());
+
+        Flux.just(ProductReview.class, FavouriteProduct.class)
+                .concatMap(type -> Flux.fromIterable(indexResolver.resolveIndexFor(type))
+                        .concatMap(index -> this.mongoTemplate.indexOps(type).ensureIndex(index)))
+                .subscribe(null, exception -> log.error("Failed to ensure the Mongo indexes", exception));
+    }
+}
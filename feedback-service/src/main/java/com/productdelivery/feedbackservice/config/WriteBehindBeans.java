@@ -0,0 +1,49 @@
+package com.productdelivery.feedbackservice.config;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import com.productdelivery.feedbackservice.repository.DocumentInserter;
+import com.productdelivery.feedbackservice.repository.FavouriteProductInserter;
+import com.productdelivery.feedbackservice.repository.FavouriteProductRepository;
+import com.productdelivery.feedbackservice.repository.ProductReviewRepository;
+import com.productdelivery.feedbackservice.repository.WriteBehindInserter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+
+@Configuration
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindBeans {
+
+    @Bean
+    public DocumentInserter<ProductReview> productReviewInserter(WriteBehindProperties properties,
+                                                                 ReactiveMongoOperations mongoOperations,
+                                                                 ProductReviewRepository productReviewRepository,
+                                                                 MeterRegistry meterRegistry) {
+        return properties.enabled()
+                ? writeBehindInserter(properties, mongoOperations, ProductReview.class, meterRegistry)
+                : productReviewRepository::save;
+    }
+
+    @Bean
+    public DocumentInserter<FavouriteProduct> favouriteProductInserter(WriteBehindProperties properties,
+                                                                       ReactiveMongoOperations mongoOperations,
+                                                                       FavouriteProductRepository favouriteProductRepository,
+                                                                       MeterRegistry meterRegistry) {
+        return properties.enabled()
+                ? new FavouriteProductInserter(favouriteProductRepository,
+                        writeBehindInserter(properties, mongoOperations, FavouriteProduct.class, meterRegistry))
+                : new FavouriteProductInserter(favouriteProductRepository);
+    }
+
+    private static <T> WriteBehindInserter<T> writeBehindInserter(WriteBehindProperties properties,
+                                                                  ReactiveMongoOperations mongoOperations,
+                                                                  Class<T> documentType,
+                                                                  MeterRegistry meterRegistry) {
+        return new WriteBehindInserter<>(mongoOperations, documentType, properties.maxBatchSize(),
+                properties.maxDelay(), properties.capacity(), properties.concurrency(),
+                properties.shutdownTimeout(), meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.productdelivery.feedbackservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("productdelivery.write-behind")
+public record WriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int maxBatchSize,
+        @DefaultValue("20ms") Duration maxDelay,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("10s") Duration shutdownTimeout) {
+}
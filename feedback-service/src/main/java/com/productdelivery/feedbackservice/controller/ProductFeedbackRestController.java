@@ -0,0 +1,31 @@
+package com.productdelivery.feedbackservice.controller;
+
+import com.productdelivery.feedbackservice.model.ProductFeedback;
+import com.productdelivery.feedbackservice.service.ProductFeedbackService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("feedback-api/product-feedback")
+public class ProductFeedbackRestController {
+
+    private static final int MAX_REVIEWS_LIMIT = 100;
+
+    private final ProductFeedbackService productFeedbackService;
+
+    @GetMapping("by-product-id/{productId:\\d+}")
+    public Mono<ProductFeedback> findProductFeedbackByProductId(Mono<JwtAuthenticationToken> authenticationTokenMono,
+                                                                @PathVariable("productId") int productId,
+                                                                @RequestParam(name = "limit", defaultValue = "20")
+                                                                int limit) {
+        return authenticationTokenMono.flatMap(token -> this.productFeedbackService.findProductFeedback(productId,
+                token.getToken().getSubject(), Math.min(Math.max(limit, 1), MAX_REVIEWS_LIMIT)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.productdelivery.feedbackservice.controller;
 
 import com.productdelivery.feedbackservice.controller.payload.NewProductReviewPayload;
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
 import com.productdelivery.feedbackservice.model.ProductReview;
 import com.productdelivery.feedbackservice.service.ProductReviewsService;
 import jakarta.validation.Valid;
@@ -12,21 +13,62 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("feedback-api/product-reviews")
 public class ProductReviewsRestController {
 
+    public static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductReviewsService productReviewsService;
 
     @GetMapping("by-product-id/{productId:\\d+}")
-    public Flux<ProductReview> findProductReviewsByProductId(@PathVariable("productId") int productId) {
-        return this.productReviewsService.findProductReviewsByProduct(productId);
+    public Mono<ResponseEntity<List<ProductReview>>> findProductReviewsByProductId(
+            @PathVariable("productId") int productId,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        Flux<ProductReview> productReviews;
+        if (after == null || after.isBlank()) {
+            productReviews = this.productReviewsService.findProductReviewsByProduct(productId, pageSize);
+        } else {
+            String[] cursor = after.split(":", 2);
+            try {
+                productReviews = this.productReviewsService.findProductReviewsByProduct(productId,
+                        Instant.ofEpochMilli(Long.parseLong(cursor[0])), UUID.fromString(cursor[1]), pageSize);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+                return Mono.error(new ServerWebInputException("Invalid continuation token", null, exception));
+            }
+        }
+
+        return productReviews.collectList()
+                .map(page -> {
+                    ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+                    if (page.size() == pageSize) {
+                        ProductReview last = page.get(page.size() - 1);
+                        responseBuilder.header(CONTINUATION_TOKEN_HEADER, "%d:%s".formatted(
+                                last.getCreatedAt().toEpochMilli(), last.getId()));
+                    }
+                    return responseBuilder.body(page);
+                });
+    }
+
+    @GetMapping("by-product-id/{productId:\\d+}/rating")
+    public Mono<ProductRatingSummary> findProductRatingSummaryByProductId(@PathVariable("productId") int productId) {
+        return this.productReviewsService.findProductRatingSummary(productId);
     }
 
     @PostMapping
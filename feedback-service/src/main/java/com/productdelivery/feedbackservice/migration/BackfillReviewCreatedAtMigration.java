@@ -0,0 +1,36 @@
+package com.productdelivery.feedbackservice.migration;
+
+import com.productdelivery.feedbackservice.model.ProductReview;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Dates reviews stored before createdAt existed to the epoch, then builds the index backing the review pages
+ * */
+@Component
+public class BackfillReviewCreatedAtMigration implements MongoMigration {
+
+    @Override
+    public String id() {
+        return "V003__Backfill_review_created_at";
+    }
+
+    @Override
+    public Mono<Void> migrate(ReactiveMongoOperations mongoOperations) {
+        return mongoOperations.updateMulti(Query.query(Criteria.where("createdAt").exists(false)),
+                        Update.update("createdAt", Instant.EPOCH), ProductReview.class)
+                .thenMany(Flux.fromIterable(new MongoPersistentEntityIndexResolver(
+                                mongoOperations.getConverter().getMappingContext())
+                                .resolveIndexFor(ProductReview.class))
+                        .concatMap(index -> mongoOperations.indexOps(ProductReview.class).ensureIndex(index)))
+                .then();
+    }
+}
@@ -0,0 +1,12 @@
+package com.productdelivery.feedbackservice.migration;
+
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Mono;
+
+/** A one-off change of the stored documents, applied once per database in the order of ids * */
+public interface MongoMigration {
+
+    String id();
+
+    Mono<Void> migrate(ReactiveMongoOperations mongoOperations);
+}
@@ -0,0 +1,96 @@
+package com.productdelivery.feedbackservice.migration;
+
+import com.productdelivery.feedbackservice.repository.MongoLock;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Applies pending migrations before the server accepts requests, one instance at a time
+ * */
+@Slf4j
+@Component
+public class MongoMigrationRunner implements SmartInitializingSingleton {
+
+    static final String CHANGELOG = "feedback_migration";
+
+    private static final String LOCK = "feedback-migrations";
+
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    private final MongoLock mongoLock;
+
+    private final List<MongoMigration> migrations;
+
+    private final Duration lockAtMostFor;
+
+    public MongoMigrationRunner(ReactiveMongoOperations mongoOperations, MongoLock mongoLock,
+                                ObjectProvider<MongoMigration> migrations,
+                                @Value("${productdelivery.migrations.lock-at-most-for:PT1H}") Duration lockAtMostFor) {
+        this.mongoOperations = mongoOperations;
+        this.mongoLock = mongoLock;
+        this.migrations = migrations.stream()
+                .sorted(Comparator.comparing(MongoMigration::id))
+                .toList();
+        this.lockAtMostFor = lockAtMostFor;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.pendingMigrations()
+                .hasElements()
+                .filter(Boolean::booleanValue)
+                .flatMap(pending -> this.lock()
+                        .then(Mono.usingWhen(Mono.just(LOCK),
+                                lock -> this.pendingMigrations()
+                                        .concatMap(this::apply)
+                                        .then(),
+                                this.mongoLock::unlock)))
+                .block();
+    }
+
+    private Flux<MongoMigration> pendingMigrations() {
+        return this.mongoOperations.findAll(Document.class, CHANGELOG)
+                .map(migration -> migration.getString("_id"))
+                .collect(Collectors.toSet())
+                .flatMapMany(applied -> Flux.fromIterable(this.migrations)
+                        .filter(migration -> !applied.contains(migration.id())));
+    }
+
+    private Mono<Void> lock() {
+        return this.mongoLock.tryLock(LOCK, this.lockAtMostFor)
+                .filter(Boolean::booleanValue)
+                .repeatWhenEmpty(attempts -> attempts
+                        .doOnNext(attempt -> {
+                            if (attempt == 0) {
+                                log.info("Waiting for another instance to apply the Mongo migrations");
+                            }
+                        })
+                        .delayElements(LOCK_POLL_INTERVAL))
+                .then();
+    }
+
+    private Mono<Void> apply(MongoMigration migration) {
+        return Mono.defer(() -> {
+                    log.info("Applying Mongo migration {}", migration.id());
+                    return migration.migrate(this.mongoOperations);
+                })
+                .then(Mono.defer(() -> this.mongoOperations.insert(new Document("_id", migration.id())
+                        .append("appliedAt", new Date()), CHANGELOG)))
+                .then();
+    }
+}
@@ -0,0 +1,53 @@
+package com.productdelivery.feedbackservice.migration;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Keeps the first stored favourite of each user and product, then builds the unique index backing the upsert
+ * */
+@Component
+public class RemoveDuplicateFavouritesMigration implements MongoMigration {
+
+    @Override
+    public String id() {
+        return "V001__Remove_duplicate_favourites";
+    }
+
+    @Override
+    public Mono<Void> migrate(ReactiveMongoOperations mongoOperations) {
+        // legacy ids are random, so insertion order is the order of the collection scan feeding $group
+        return mongoOperations.aggregate(Aggregation.newAggregation(
+                                context -> Document.parse("""
+                                        {"$group": {"_id": {"userId": "$userId", "productId": "$productId"},
+                                                    "ids": {"$push": "$_id"},
+                                                    "count": {"$sum": 1}}}"""),
+                                context -> Document.parse("""
+                                        {"$match": {"count": {"$gt": 1}}}"""))
+                        .withOptions(AggregationOptions.builder()
+                                .allowDiskUse(true)
+                                .build()),
+                        mongoOperations.getCollectionName(FavouriteProduct.class), Document.class)
+                .concatMap(duplicates -> {
+                    List<Object> ids = duplicates.getList("ids", Object.class);
+                    return mongoOperations.remove(Query.query(Criteria.where("_id").in(ids.subList(1, ids.size()))),
+                            FavouriteProduct.class);
+                })
+                .thenMany(Flux.fromIterable(new MongoPersistentEntityIndexResolver(
+                                mongoOperations.getConverter().getMappingContext())
+                                .resolveIndexFor(FavouriteProduct.class))
+                        .concatMap(index -> mongoOperations.indexOps(FavouriteProduct.class).ensureIndex(index)))
+                .then();
+    }
+}
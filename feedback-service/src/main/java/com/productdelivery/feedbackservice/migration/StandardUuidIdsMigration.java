@@ -0,0 +1,132 @@
+package com.productdelivery.feedbackservice.migration;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.UuidRepresentation;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rewrites ids stored by the java-legacy codec (binary subtype 3) as standard UUIDs (subtype 4)
+ * */
+@Slf4j
+@Component
+public class StandardUuidIdsMigration implements MongoMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public String id() {
+        return "V002__Standard_uuid_ids";
+    }
+
+    @Override
+    public Mono<Void> migrate(ReactiveMongoOperations mongoOperations) {
+        return Flux.just(FavouriteProduct.class, ProductReview.class)
+                .map(mongoOperations::getCollectionName)
+                .concatMap(collectionName -> Mono.zip(
+                                mongoOperations.getCollection(collectionName)
+                                        .map(collection -> collection.withDocumentClass(BsonDocument.class)),
+                                mongoOperations.getCollection(collectionName + "_standard_uuid")
+                                        .map(staging -> staging.withDocumentClass(BsonDocument.class)))
+                        .flatMap(collections -> this.rewrite(collections.getT1(), collections.getT2())))
+                .then();
+    }
+
+    /**
+     * _id cannot be updated in place, so every legacy document is replaced by a copy with the standard id while the
+     * collection stays in use: documents written by instances of older versions during the run are rewritten by later
+     * batches instead of being lost. The copies of a batch are staged first, so that a run interrupted between
+     * removing a document and inserting its copy restores the copy on the next start.
+     * */
+    private Mono<Void> rewrite(MongoCollection<BsonDocument> collection, MongoCollection<BsonDocument> staging) {
+        log.info("Rewriting legacy UUID ids of {}", collection.getNamespace().getCollectionName());
+
+        return restoreStaged(collection, staging)
+                .then(Mono.defer(() -> Flux.from(collection.find(legacyIds()).limit(BATCH_SIZE)).collectList())
+                        .flatMap(batch -> this.rewriteBatch(collection, staging, batch).thenReturn(batch.size()))
+                        .repeat()
+                        .takeUntil(size -> size < BATCH_SIZE)
+                        .then())
+                .then(Mono.from(staging.drop()));
+    }
+
+    private Mono<Void> rewriteBatch(MongoCollection<BsonDocument> collection, MongoCollection<BsonDocument> staging,
+                                    List<BsonDocument> batch) {
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+
+        List<BsonDocument> copies = batch.stream()
+                .map(document -> withStandardId(document.clone()))
+                .toList();
+        return Mono.from(staging.insertMany(copies))
+                .thenMany(Flux.fromIterable(batch)
+                        // only the copy of a document that is still there is inserted, a concurrent removal wins
+                        .concatMap(document -> Mono.from(collection.deleteOne(
+                                        Filters.eq("_id", document.get("_id"))))
+                                .filter(result -> result.getDeletedCount() == 1)
+                                .flatMap(result -> insertIfAbsent(collection, withStandardId(document)))))
+                .then(Mono.from(staging.deleteMany(Filters.in("_id",
+                        copies.stream().map(copy -> copy.get("_id")).toList()))))
+                .then();
+    }
+
+    /** Inserts the staged copies whose document is neither stored with its legacy nor with its standard id * */
+    private static Mono<Void> restoreStaged(MongoCollection<BsonDocument> collection,
+                                            MongoCollection<BsonDocument> staging) {
+        return Flux.from(staging.find())
+                .concatMap(copy -> {
+                    BsonValue id = copy.get("_id");
+                    BsonBinary legacyId = new BsonBinary(id.asBinary().asUuid(), UuidRepresentation.JAVA_LEGACY);
+                    return Mono.from(collection.find(Filters.in("_id", id, legacyId)).first())
+                            .hasElement()
+                            .filter(stored -> !stored)
+                            .flatMap(missing -> insertIfAbsent(collection, copy));
+                })
+                .then(Mono.from(staging.deleteMany(new BsonDocument())))
+                .then();
+    }
+
+    /** A favourite added again by an older instance already holds the unique user and product index entry * */
+    private static Mono<Void> insertIfAbsent(MongoCollection<BsonDocument> collection, BsonDocument document) {
+        return Mono.from(collection.insertOne(document))
+                .onErrorResume(MongoWriteException.class,
+                        exception -> exception.getError().getCategory() == ErrorCategory.DUPLICATE_KEY
+                                ? Mono.empty()
+                                : Mono.error(exception))
+                .then();
+    }
+
+    private static BsonDocument withStandardId(BsonDocument document) {
+        BsonValue id = document.get("_id");
+        if (id != null && id.isBinary() && id.asBinary().getType() == BsonBinarySubType.UUID_LEGACY.getValue()) {
+            document.put("_id", new BsonBinary(id.asBinary().asUuid(UuidRepresentation.JAVA_LEGACY)));
+        }
+        return document;
+    }
+
+    /** BSON orders binaries by length, then subtype, so all 16-byte subtype 3 values lie in one _id range * */
+    private static Bson legacyIds() {
+        byte[] highest = new byte[16];
+        Arrays.fill(highest, (byte) 0xFF);
+        return Filters.and(
+                Filters.gte("_id", new BsonBinary(BsonBinarySubType.UUID_LEGACY, new byte[16])),
+                Filters.lte("_id", new BsonBinary(BsonBinarySubType.UUID_LEGACY, highest)));
+    }
+}
@@ -0,0 +1,7 @@
+package com.productdelivery.feedbackservice.model;
+
+import java.util.List;
+
+public record ProductFeedback(List<ProductReview> reviews, ProductRatingSummary ratingSummary,
+                              boolean inFavourite) {
+}
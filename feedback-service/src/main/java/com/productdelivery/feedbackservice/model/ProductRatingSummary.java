@@ -0,0 +1,25 @@
+package com.productdelivery.feedbackservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("product_rating_summary")
+public class ProductRatingSummary {
+
+    @Id
+    private int productId;
+
+    private long count;
+
+    private long sum;
+
+    private Map<Integer, Long> histogram;
+}
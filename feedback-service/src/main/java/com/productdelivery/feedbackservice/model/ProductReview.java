@@ -4,14 +4,17 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Document("product_review")
+@CompoundIndex(name = "product_id_created_at", def = "{'productId': 1, 'createdAt': -1, '_id': -1}")
 public class ProductReview {
 
     @Id
@@ -24,4 +27,10 @@ public class ProductReview {
     private String review;
 
     private String userId;
+
+    private Instant createdAt;
+
+    public ProductReview(UUID id, int productId, int rating, String review, String userId) {
+        this(id, productId, rating, review, userId, null);
+    }
 }
@@ -0,0 +1,9 @@
+package com.productdelivery.feedbackservice.repository;
+
+import reactor.core.publisher.Mono;
+
+@FunctionalInterface
+public interface DocumentInserter<T> {
+
+    Mono<T> insert(T document);
+}
@@ -0,0 +1,43 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+
+/** Stores a favourite once per user and product and returns the stored one, whichever way favourites are inserted * */
+public class FavouriteProductInserter implements DocumentInserter<FavouriteProduct>, DisposableBean {
+
+    private final FavouriteProductRepository favouriteProductRepository;
+
+    private final WriteBehindInserter<FavouriteProduct> writeBehindInserter;
+
+    public FavouriteProductInserter(FavouriteProductRepository favouriteProductRepository) {
+        this(favouriteProductRepository, null);
+    }
+
+    public FavouriteProductInserter(FavouriteProductRepository favouriteProductRepository,
+                                    WriteBehindInserter<FavouriteProduct> writeBehindInserter) {
+        this.favouriteProductRepository = favouriteProductRepository;
+        this.writeBehindInserter = writeBehindInserter;
+    }
+
+    @Override
+    public Mono<FavouriteProduct> insert(FavouriteProduct favouriteProduct) {
+        if (this.writeBehindInserter == null) {
+            return this.favouriteProductRepository.upsert(favouriteProduct);
+        }
+
+        // a bulk insert cannot upsert, the unique user_id_product_id index rejects a favourite stored before
+        return this.writeBehindInserter.insert(favouriteProduct)
+                .onErrorResume(DuplicateKeyException.class, exception -> this.favouriteProductRepository
+                        .findByProductIdAndUserId(favouriteProduct.getProductId(), favouriteProduct.getUserId()));
+    }
+
+    @Override
+    public void destroy() {
+        if (this.writeBehindInserter != null) {
+            this.writeBehindInserter.destroy();
+        }
+    }
+}
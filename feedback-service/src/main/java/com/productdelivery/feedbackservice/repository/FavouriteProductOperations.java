@@ -0,0 +1,9 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import reactor.core.publisher.Mono;
+
+public interface FavouriteProductOperations {
+
+    Mono<FavouriteProduct> upsert(FavouriteProduct favouriteProduct);
+}
@@ -0,0 +1,26 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class FavouriteProductOperationsImpl implements FavouriteProductOperations {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    @Override
+    public Mono<FavouriteProduct> upsert(FavouriteProduct favouriteProduct) {
+        return this.mongoOperations.findAndModify(
+                Query.query(Criteria.where("userId").is(favouriteProduct.getUserId())
+                        .and("productId").is(favouriteProduct.getProductId())),
+                new Update().setOnInsert("_id", favouriteProduct.getId()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                FavouriteProduct.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.productdelivery.feedbackservice.repository;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/** Named locks shared by all instances, held at most for the given time so that a crashed holder cannot block * */
+@Component
+public class MongoLock {
+
+    static final String COLLECTION = "feedback_lock";
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    private final Clock clock;
+
+    private final String holder = UUID.randomUUID().toString();
+
+    public MongoLock(ReactiveMongoOperations mongoOperations) {
+        this(mongoOperations, Clock.systemUTC());
+    }
+
+    MongoLock(ReactiveMongoOperations mongoOperations, Clock clock) {
+        this.mongoOperations = mongoOperations;
+        this.clock = clock;
+    }
+
+    public Mono<Boolean> tryLock(String name, Duration lockAtMostFor) {
+        return Mono.defer(() -> {
+            Instant now = this.clock.instant();
+            // a held lock does not match, the upsert then fails on the _id of the existing lock document
+            return this.mongoOperations.findAndModify(
+                            Query.query(Criteria.where("_id").is(name).and("lockUntil").lte(now)),
+                            new Update()
+                                    .set("lockUntil", now.plus(lockAtMostFor))
+                                    .set("lockedAt", now)
+                                    .set("lockedBy", this.holder),
+                            FindAndModifyOptions.options().upsert(true).returnNew(true),
+                            Document.class, COLLECTION)
+                    .hasElement()
+                    .onErrorResume(DuplicateKeyException.class, exception -> Mono.just(false));
+        });
+    }
+
+    public Mono<Void> unlock(String name) {
+        return Mono.defer(() -> this.mongoOperations.updateFirst(
+                        Query.query(Criteria.where("_id").is(name).and("lockedBy").is(this.holder)),
+                        Update.update("lockUntil", this.clock.instant()), COLLECTION))
+                .then();
+    }
+
+    /** Runs the action if the lock is free and completes empty otherwise * */
+    public <T> Mono<T> runIfFree(String name, Duration lockAtMostFor, Supplier<Mono<T>> action) {
+        return this.tryLock(name, lockAtMostFor)
+                .filter(Boolean::booleanValue)
+                .flatMap(locked -> Mono.usingWhen(Mono.just(name), ignored -> action.get(), this::unlock));
+    }
+}
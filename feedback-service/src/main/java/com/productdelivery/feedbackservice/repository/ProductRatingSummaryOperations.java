@@ -0,0 +1,18 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.ProductReview;
+import reactor.core.publisher.Mono;
+
+public interface ProductRatingSummaryOperations {
+
+    /** Counts the review and marks it pending, before the review itself is stored * */
+    Mono<Void> incrementRating(ProductReview productReview);
+
+    /** Clears the pending mark once the review is stored * */
+    Mono<Void> confirmRating(ProductReview productReview);
+
+    /** Takes back the count of a review that could not be stored * */
+    Mono<Void> revertRating(ProductReview productReview);
+
+    Mono<Void> rebuildAll();
+}
@@ -0,0 +1,178 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ProductRatingSummaryOperationsImpl implements ProductRatingSummaryOperations {
+
+    /** Bumped by every increment, so that a rebuild only replaces a summary nobody has changed since it was read * */
+    static final String VERSION = "version";
+
+    /**
+     * Reviews counted by an increment but not confirmed as stored yet. A rebuild counts them from here instead of
+     * from the reviews, so that a review stored between the increment and its confirmation is not counted twice
+     * */
+    static final String PENDING_REVIEWS = "pendingReviews";
+
+    private static final String COUNTED_AT = "countedAt";
+
+    /** A pending review older than this was lost along with its confirmation, a rebuild counts it from the reviews * */
+    static final Duration PENDING_REVIEW_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final int MAX_REBUILD_ATTEMPTS = 5;
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    @Override
+    public Mono<Void> incrementRating(ProductReview productReview) {
+        return this.mongoOperations.upsert(Query.query(Criteria.where("_id").is(productReview.getProductId())),
+                        ratingUpdate(productReview.getRating(), 1)
+                                .push(PENDING_REVIEWS, new Document("_id", productReview.getId())
+                                        .append("rating", productReview.getRating())
+                                        .append(COUNTED_AT, new Date())),
+                        ProductRatingSummary.class)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> confirmRating(ProductReview productReview) {
+        // the count stays the same, so the version does not change and a running rebuild keeps its result
+        return this.mongoOperations.updateFirst(Query.query(Criteria.where("_id").is(productReview.getProductId())),
+                        new Update().pull(PENDING_REVIEWS, new Document("_id", productReview.getId())),
+                        ProductRatingSummary.class)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> revertRating(ProductReview productReview) {
+        return this.mongoOperations.updateFirst(Query.query(Criteria.where("_id").is(productReview.getProductId())
+                                .and(PENDING_REVIEWS + "._id").is(productReview.getId())),
+                        ratingUpdate(productReview.getRating(), -1)
+                                .pull(PENDING_REVIEWS, new Document("_id", productReview.getId())),
+                        ProductRatingSummary.class)
+                .then();
+    }
+
+    private static Update ratingUpdate(int rating, int delta) {
+        return new Update()
+                .inc("count", delta)
+                .inc("sum", rating * delta)
+                .inc("histogram." + rating, delta)
+                .inc(VERSION, 1);
+    }
+
+    @Override
+    public Mono<Void> rebuildAll() {
+        // summaries of products whose reviews are all gone are rebuilt too, down to zero
+        return Flux.concat(
+                        this.mongoOperations.aggregate(Aggregation.newAggregation(
+                                                context -> Document.parse("""
+                                                        {"$group": {"_id": "$productId"}}"""))
+                                        .withOptions(AggregationOptions.builder()
+                                                .allowDiskUse(true)
+                                                .build()),
+                                this.mongoOperations.getCollectionName(ProductReview.class), Document.class),
+                        this.mongoOperations.findAll(Document.class,
+                                this.mongoOperations.getCollectionName(ProductRatingSummary.class)))
+                .map(document -> document.getInteger("_id"))
+                .distinct()
+                .concatMap(this::rebuild)
+                .then();
+    }
+
+    private Mono<Void> rebuild(int productId) {
+        return Flux.range(0, MAX_REBUILD_ATTEMPTS)
+                .concatMap(attempt -> this.tryRebuild(productId))
+                .takeUntil(Boolean::booleanValue)
+                .last()
+                .filter(rebuilt -> !rebuilt)
+                .doOnNext(rebuilt -> log.warn("Rating summary of product {} kept changing, left it as is", productId))
+                .then();
+    }
+
+    private Mono<Boolean> tryRebuild(int productId) {
+        String collectionName = this.mongoOperations.getCollectionName(ProductRatingSummary.class);
+        return this.mongoOperations.findOne(Query.query(Criteria.where("_id").is(productId)), Document.class,
+                        collectionName)
+                .defaultIfEmpty(new Document())
+                .flatMap(summary -> {
+                    Number storedVersion = summary.get(VERSION, Number.class);
+                    int version = storedVersion == null ? 0 : storedVersion.intValue();
+                    Date staleBefore = Date.from(Instant.now().minus(PENDING_REVIEW_TIMEOUT));
+                    List<Document> pendingReviews = summary.getList(PENDING_REVIEWS, Document.class, List.of());
+                    List<Document> countedReviews = pendingReviews.stream()
+                            .filter(review -> !review.getDate(COUNTED_AT).before(staleBefore))
+                            .toList();
+                    List<Object> staleReviewIds = pendingReviews.stream()
+                            .filter(review -> review.getDate(COUNTED_AT).before(staleBefore))
+                            .map(review -> review.get("_id"))
+                            .toList();
+
+                    return this.mongoOperations.aggregate(Aggregation.newAggregation(
+                                            Aggregation.match(Criteria.where("productId").is(productId)
+                                                    .and("_id").nin(countedReviews.stream()
+                                                            .map(review -> review.get("_id"))
+                                                            .toList())),
+                                            context -> Document.parse("""
+                                                    {"$group": {"_id": "$rating", "count": {"$sum": 1}}}""")),
+                                    this.mongoOperations.getCollectionName(ProductReview.class), Document.class)
+                            .collectList()
+                            .flatMap(ratings -> {
+                                Update update = summaryUpdate(ratings, countedReviews).set(VERSION, version);
+                                if (!staleReviewIds.isEmpty()) {
+                                    update.pull(PENDING_REVIEWS,
+                                            new Document("_id", new Document("$in", staleReviewIds)));
+                                }
+                                // a concurrent increment bumps the version, the upsert then collides with the
+                                // changed summary
+                                return this.mongoOperations.upsert(
+                                        Query.query(Criteria.where("_id").is(productId).and(VERSION).in(
+                                                version == 0 ? new Object[]{0, null} : new Object[]{version})),
+                                        update, collectionName);
+                            });
+                })
+                .thenReturn(true)
+                .onErrorResume(DuplicateKeyException.class, exception -> Mono.just(false));
+    }
+
+    private static Update summaryUpdate(List<Document> ratings, List<Document> pendingReviews) {
+        long count = 0;
+        long sum = 0;
+        Document histogram = new Document();
+        for (Document rating : ratings) {
+            long ratingCount = rating.get("count", Number.class).longValue();
+            count += ratingCount;
+            sum += rating.getInteger("_id") * ratingCount;
+            histogram.put(rating.getInteger("_id").toString(), ratingCount);
+        }
+        for (Document pendingReview : pendingReviews) {
+            count++;
+            sum += pendingReview.getInteger("rating");
+            histogram.merge(pendingReview.getInteger("rating").toString(), 1L,
+                    (left, right) -> (Long) left + (Long) right);
+        }
+        return new Update()
+                .set("count", count)
+                .set("sum", sum)
+                .set("histogram", histogram);
+    }
+}
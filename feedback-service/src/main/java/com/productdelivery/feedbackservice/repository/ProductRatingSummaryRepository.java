@@ -0,0 +1,8 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+public interface ProductRatingSummaryRepository extends ReactiveCrudRepository<ProductRatingSummary, Integer>,
+        ProductRatingSummaryOperations {
+}
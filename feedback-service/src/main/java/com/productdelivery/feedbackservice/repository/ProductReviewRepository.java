@@ -1,12 +1,20 @@
 package com.productdelivery.feedbackservice.repository;
 
 import com.productdelivery.feedbackservice.model.ProductReview;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public interface ProductReviewRepository extends ReactiveCrudRepository<ProductReview, UUID> {
 
-    Flux<ProductReview> findAllByProductId(int productId);
+    Flux<ProductReview> findAllByProductIdOrderByCreatedAtDescIdDesc(int productId, Limit limit);
+
+    @Query(value = """
+            {'productId': ?0, '$or': [{'createdAt': {'$lt': ?1}}, {'createdAt': ?1, '_id': {'$lt': ?2}}]}""",
+            sort = "{'createdAt': -1, '_id': -1}")
+    Flux<ProductReview> findAllByProductIdAfter(int productId, Instant createdAt, UUID id, Limit limit);
 }
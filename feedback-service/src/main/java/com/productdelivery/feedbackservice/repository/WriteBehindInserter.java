@@ -0,0 +1,160 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Buffers inserts by size or time window and flushes them as one unordered bulk write * */
+@Slf4j
+public class WriteBehindInserter<T> implements DocumentInserter<T>, DisposableBean {
+
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    private final Class<T> documentType;
+
+    private final Sinks.Many<PendingInsert<T>> pendingInserts;
+
+    private final Sinks.Empty<Void> terminated = Sinks.empty();
+
+    private final Duration shutdownTimeout;
+
+    private final DistributionSummary batchSize;
+
+    private final MeterRegistry meterRegistry;
+
+    private final String collectionName;
+
+    public WriteBehindInserter(ReactiveMongoOperations mongoOperations, Class<T> documentType,
+                               int maxBatchSize, Duration maxDelay, int capacity, int concurrency,
+                               Duration shutdownTimeout, MeterRegistry meterRegistry) {
+        this.mongoOperations = mongoOperations;
+        this.documentType = documentType;
+        this.shutdownTimeout = shutdownTimeout;
+        this.meterRegistry = meterRegistry;
+        this.collectionName = mongoOperations.getCollectionName(documentType);
+        this.pendingInserts = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<PendingInsert<T>>get(capacity).get());
+        this.batchSize = DistributionSummary.builder("feedback.write-behind.batch.size")
+                .description("Number of documents flushed in a single bulk write")
+                .tag("collection", this.collectionName)
+                .register(meterRegistry);
+
+        this.pendingInserts.asFlux()
+                .bufferTimeout(maxBatchSize, maxDelay, true)
+                .flatMap(this::flush, concurrency)
+                .doFinally(signal -> this.terminated.tryEmitEmpty())
+                .subscribe();
+    }
+
+    @Override
+    public Mono<T> insert(T document) {
+        return Mono.defer(() -> {
+            Sinks.One<T> acknowledgement = Sinks.one();
+            Sinks.EmitResult result;
+            do {
+                result = this.pendingInserts.tryEmitNext(new PendingInsert<>(document, acknowledgement));
+            } while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+
+            if (result.isFailure()) {
+                return Mono.error(new TransientDataAccessResourceException(
+                        "Write-behind buffer for %s is not accepting inserts: %s"
+                                .formatted(this.collectionName, result)));
+            }
+            return acknowledgement.asMono();
+        });
+    }
+
+    private Mono<Void> flush(List<PendingInsert<T>> batch) {
+        this.batchSize.record(batch.size());
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        return this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, this.documentType)
+                .insert(batch.stream().map(PendingInsert::document).toList())
+                .execute()
+                .doOnNext(bulkWriteResult -> {
+                    sample.stop(flushTimer("success"));
+                    batch.forEach(PendingInsert::acknowledge);
+                })
+                .onErrorResume(exception -> {
+                    sample.stop(flushTimer("error"));
+                    acknowledgePartially(batch, exception);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void acknowledgePartially(List<PendingInsert<T>> batch, Throwable exception) {
+        MongoBulkWriteException bulkWriteException = findBulkWriteException(exception);
+        if (bulkWriteException == null) {
+            log.warn("Bulk insert of {} documents into {} failed", batch.size(), this.collectionName, exception);
+            batch.forEach(pendingInsert -> pendingInsert.reject(exception));
+            return;
+        }
+
+        Map<Integer, BulkWriteError> errors = new HashMap<>();
+        bulkWriteException.getWriteErrors().forEach(error -> errors.put(error.getIndex(), error));
+        for (int i = 0; i < batch.size(); i++) {
+            BulkWriteError error = errors.get(i);
+            if (error == null) {
+                batch.get(i).acknowledge();
+            } else if (error.getCode() == DUPLICATE_KEY_ERROR_CODE) {
+                batch.get(i).reject(new DuplicateKeyException(error.getMessage(), bulkWriteException));
+            } else {
+                batch.get(i).reject(new DataIntegrityViolationException(error.getMessage(), bulkWriteException));
+            }
+        }
+    }
+
+    private static MongoBulkWriteException findBulkWriteException(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+        }
+        return null;
+    }
+
+    private Timer flushTimer(String outcome) {
+        return Timer.builder("feedback.write-behind.flush")
+                .description("Latency of write-behind bulk writes")
+                .tag("collection", this.collectionName)
+                .tag("outcome", outcome)
+                .register(this.meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        this.pendingInserts.tryEmitComplete();
+        this.terminated.asMono().block(this.shutdownTimeout);
+    }
+
+    private record PendingInsert<T>(T document, Sinks.One<T> acknowledgement) {
+
+        void acknowledge() {
+            this.acknowledgement.tryEmitValue(this.document);
+        }
+
+        void reject(Throwable exception) {
+            this.acknowledgement.tryEmitError(exception);
+        }
+    }
+}
@@ -1,23 +1,28 @@
 package com.productdelivery.feedbackservice.service;
 
 import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.repository.DocumentInserter;
 import com.productdelivery.feedbackservice.repository.FavouriteProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.IdGenerator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.UUID;
-
 @Service
 @RequiredArgsConstructor
 public class DefaultFavoriteProductsService implements FavouriteProductsService {
 
     private final FavouriteProductRepository favouriteProductRepository;
 
+    private final DocumentInserter<FavouriteProduct> favouriteProductInserter;
+
+    private final IdGenerator idGenerator;
+
     @Override
     public Mono<FavouriteProduct> addProductToFavourites(int productId, String userId) {
-        return this.favouriteProductRepository.save(new FavouriteProduct(UUID.randomUUID(), productId, userId));
+        return this.favouriteProductInserter.insert(
+                new FavouriteProduct(this.idGenerator.generateId(), productId, userId));
     }
 
     @Override
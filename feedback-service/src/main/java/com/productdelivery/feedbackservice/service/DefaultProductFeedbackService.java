@@ -0,0 +1,24 @@
+package com.productdelivery.feedbackservice.service;
+
+import com.productdelivery.feedbackservice.model.ProductFeedback;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class DefaultProductFeedbackService implements ProductFeedbackService {
+
+    private final ProductReviewsService productReviewsService;
+
+    private final FavouriteProductsService favouriteProductsService;
+
+    @Override
+    public Mono<ProductFeedback> findProductFeedback(int productId, String userId, int reviewsLimit) {
+        return Mono.zip(
+                        this.productReviewsService.findProductReviewsByProduct(productId, reviewsLimit).collectList(),
+                        this.productReviewsService.findProductRatingSummary(productId),
+                        this.favouriteProductsService.findFavouriteProductByProduct(productId, userId).hasElement())
+                .map(tuple -> new ProductFeedback(tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+}
@@ -1,12 +1,20 @@
 package com.productdelivery.feedbackservice.service;
 
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
 import com.productdelivery.feedbackservice.model.ProductReview;
+import com.productdelivery.feedbackservice.repository.DocumentInserter;
+import com.productdelivery.feedbackservice.repository.ProductRatingSummaryRepository;
 import com.productdelivery.feedbackservice.repository.ProductReviewRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.util.IdGenerator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -15,14 +23,45 @@ public class DefaultProductReviewsService implements ProductReviewsService {
 
     private final ProductReviewRepository productReviewRepository;
 
+    private final ProductRatingSummaryRepository productRatingSummaryRepository;
+
+    private final DocumentInserter<ProductReview> productReviewInserter;
+
+    private final IdGenerator idGenerator;
+
     @Override
     public Mono<ProductReview> createProductReview(int productId, int rating, String review, String userId) {
-        return this.productReviewRepository.save(
-                new ProductReview(UUID.randomUUID(), productId, rating, review, userId));
+        ProductReview productReview = new ProductReview(this.idGenerator.generateId(), productId, rating, review,
+                userId, Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        // the summary counts the review before it is visible, so a rebuild never sees it stored but not counted
+        return this.productRatingSummaryRepository.incrementRating(productReview)
+                .then(this.productReviewInserter.insert(productReview)
+                        .onErrorResume(exception -> this.productRatingSummaryRepository.revertRating(productReview)
+                                .then(Mono.error(exception))))
+                .flatMap(inserted -> this.productRatingSummaryRepository.confirmRating(inserted)
+                        .thenReturn(inserted));
+    }
+
+    @Override
+    public Flux<ProductReview> findProductReviewsByProduct(int productId, int limit) {
+        return this.productReviewRepository.findAllByProductIdOrderByCreatedAtDescIdDesc(productId, Limit.of(limit));
+    }
+
+    @Override
+    public Flux<ProductReview> findProductReviewsByProduct(int productId, Instant afterCreatedAt, UUID afterId,
+                                                           int limit) {
+        return this.productReviewRepository.findAllByProductIdAfter(productId, afterCreatedAt, afterId,
+                Limit.of(limit));
+    }
+
+    @Override
+    public Mono<ProductRatingSummary> findProductRatingSummary(int productId) {
+        return this.productRatingSummaryRepository.findById(productId)
+                .defaultIfEmpty(new ProductRatingSummary(productId, 0, 0, Map.of()));
     }
 
     @Override
-    public Flux<ProductReview> findProductReviewsByProduct(int productId) {
-        return this.productReviewRepository.findAllByProductId(productId);
+    public Mono<Void> rebuildProductRatingSummaries() {
+        return this.productRatingSummaryRepository.rebuildAll();
     }
 }
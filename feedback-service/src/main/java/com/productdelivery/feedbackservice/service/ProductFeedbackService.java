@@ -0,0 +1,9 @@
+package com.productdelivery.feedbackservice.service;
+
+import com.productdelivery.feedbackservice.model.ProductFeedback;
+import reactor.core.publisher.Mono;
+
+public interface ProductFeedbackService {
+
+    Mono<ProductFeedback> findProductFeedback(int productId, String userId, int reviewsLimit);
+}
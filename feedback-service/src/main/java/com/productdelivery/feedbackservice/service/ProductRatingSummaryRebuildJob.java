@@ -0,0 +1,47 @@
+package com.productdelivery.feedbackservice.service;
+
+import com.productdelivery.feedbackservice.repository.MongoLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class ProductRatingSummaryRebuildJob {
+
+    private static final String LOCK = "product-rating-summary-rebuild";
+
+    private final ProductReviewsService productReviewsService;
+
+    private final MongoLock mongoLock;
+
+    private final Duration lockAtMostFor;
+
+    public ProductRatingSummaryRebuildJob(ProductReviewsService productReviewsService, MongoLock mongoLock,
+                                          @Value("${productdelivery.ratings.rebuild-lock-at-most-for:PT1H}")
+                                          Duration lockAtMostFor) {
+        this.productReviewsService = productReviewsService;
+        this.mongoLock = mongoLock;
+        this.lockAtMostFor = lockAtMostFor;
+    }
+
+    /** Runs on the one instance that takes the lock, the others skip the run * */
+    @Scheduled(cron = "${productdelivery.ratings.rebuild-cron:0 0 3 * * *}")
+    public Mono<Void> rebuildProductRatingSummaries() {
+        return this.mongoLock.runIfFree(LOCK, this.lockAtMostFor,
+                        () -> this.productReviewsService.rebuildProductRatingSummaries().thenReturn(true))
+                .doOnSuccess(rebuilt -> {
+                    if (rebuilt == null) {
+                        log.info("Product rating summaries are being rebuilt by another instance");
+                    } else {
+                        log.info("Product rating summaries have been rebuilt");
+                    }
+                })
+                .doOnError(exception -> log.error("Failed to rebuild product rating summaries", exception))
+                .then();
+    }
+}
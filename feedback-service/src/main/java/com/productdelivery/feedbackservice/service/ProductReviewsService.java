@@ -1,12 +1,22 @@
 package com.productdelivery.feedbackservice.service;
 
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
 import com.productdelivery.feedbackservice.model.ProductReview;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.UUID;
+
 public interface ProductReviewsService {
 
     Mono<ProductReview> createProductReview(int productId, int rating, String review, String userId);
 
-     Flux<ProductReview> findProductReviewsByProduct(int productId);
+    Flux<ProductReview> findProductReviewsByProduct(int productId, int limit);
+
+    Flux<ProductReview> findProductReviewsByProduct(int productId, Instant afterCreatedAt, UUID afterId, int limit);
+
+    Mono<ProductRatingSummary> findProductRatingSummary(int productId);
+
+    Mono<Void> rebuildProductRatingSummaries();
 }
@@ -0,0 +1,18 @@
+package com.productdelivery.feedbackservice.service;
+
+import org.springframework.util.IdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Generates version 7 UUIDs: a millisecond timestamp followed by random bits (RFC 9562) * */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    @Override
+    public UUID generateId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = System.currentTimeMillis() << 16 | 0x7000L | random.nextInt(0x1000);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -8,9 +8,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
 
 import java.util.List;
 import java.util.UUID;
@@ -140,6 +143,35 @@ class FavouriteProductsRestControllerIT {
                         }""").jsonPath("$.id").exists();
     }
 
+    @Test
+    void addProductToFavourites_ProductIsAlreadyInFavourites_ReturnsExistingFavouriteProduct() {
+        // given
+        // when
+        this.webTestClient
+                .mutateWith(mockJwt().jwt(builder -> builder.subject("6177a957-3d91-4e62-92d9-a785e22fc587")))
+                .post()
+                .uri("/feedback-api/favourite-products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                            "productId": 1
+                        }""")
+                .exchange()
+                // then
+                .expectStatus().isCreated()
+                .expectBody().json("""
+                        {
+                            "id": "1e8e029a-b516-4d5c-8590-0d8b78db75e9",
+                            "productId": 1,
+                            "userId": "6177a957-3d91-4e62-92d9-a785e22fc587"
+                        }""");
+
+        StepVerifier.create(this.reactiveMongoTemplate.count(Query.query(Criteria.where("userId")
+                                .is("6177a957-3d91-4e62-92d9-a785e22fc587")), FavouriteProduct.class))
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
     @Test
     void addProductToFavourites_RequestIsInvalid_ReturnsBadRequest() {
         // given
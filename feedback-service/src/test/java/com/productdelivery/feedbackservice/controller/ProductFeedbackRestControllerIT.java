@@ -0,0 +1,104 @@
+package com.productdelivery.feedbackservice.controller;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ProductFeedbackRestControllerIT {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.reactiveMongoTemplate.insertAll(List.of(
+                new ProductReview(UUID.fromString("f5adccd9-eed6-40e2-bb02-f7a3464c410f"), 1, 4,
+                        "Отзыв №1", "user-1", Instant.parse("2024-02-01T10:00:00Z")),
+                new ProductReview(UUID.fromString("414234d4-b0f2-4b6e-93c9-fbf2dd289114"), 1, 5,
+                        "Отзыв №2", "user-2", Instant.parse("2024-02-02T10:00:00Z"))
+        )).blockLast();
+        this.reactiveMongoTemplate.insert(new ProductRatingSummary(1, 2, 9, Map.of(4, 1L, 5, 1L))).block();
+        this.reactiveMongoTemplate.insert(new FavouriteProduct(UUID.fromString("1e8e029a-b516-4d5c-8590-0d8b78db75e9"),
+                1, "user-1")).block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.reactiveMongoTemplate.remove(ProductReview.class).all().block();
+        this.reactiveMongoTemplate.remove(ProductRatingSummary.class).all().block();
+        this.reactiveMongoTemplate.remove(FavouriteProduct.class).all().block();
+    }
+
+    @Test
+    void findProductFeedbackByProductId_ReturnsReviewsRatingAndFavouriteState() {
+        // given
+        // when
+        this.webTestClient
+                .mutateWith(mockJwt().jwt(builder -> builder.subject("user-1")))
+                .get()
+                .uri("/feedback-api/product-feedback/by-product-id/1")
+                .exchange()
+                // then
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.reviews[0].id").isEqualTo("414234d4-b0f2-4b6e-93c9-fbf2dd289114")
+                .jsonPath("$.reviews[1].id").isEqualTo("f5adccd9-eed6-40e2-bb02-f7a3464c410f")
+                .jsonPath("$.ratingSummary.count").isEqualTo(2)
+                .jsonPath("$.ratingSummary.sum").isEqualTo(9)
+                .jsonPath("$.inFavourite").isEqualTo(true);
+    }
+
+    @Test
+    void findProductFeedbackByProductId_ProductHasNoFeedback_ReturnsEmptyFeedback() {
+        // given
+        // when
+        this.webTestClient
+                .mutateWith(mockJwt().jwt(builder -> builder.subject("user-2")))
+                .get()
+                .uri("/feedback-api/product-feedback/by-product-id/2")
+                .exchange()
+                // then
+                .expectStatus().isOk()
+                .expectBody()
+                .json("""
+                        {
+                            "reviews": [],
+                            "ratingSummary": {"productId": 2, "count": 0, "sum": 0},
+                            "inFavourite": false
+                        }""");
+    }
+
+    @Test
+    void findProductFeedbackByProductId_UserIsNotAuthorized_ReturnsUnauthorized() {
+        // given
+        // when
+        this.webTestClient
+                .get()
+                .uri("/feedback-api/product-feedback/by-product-id/1")
+                .exchange()
+                // then
+                .expectStatus().isUnauthorized();
+    }
+}
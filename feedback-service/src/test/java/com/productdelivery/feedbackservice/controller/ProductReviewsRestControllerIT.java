@@ -1,6 +1,8 @@
 package com.productdelivery.feedbackservice.controller;
 
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
 import com.productdelivery.feedbackservice.model.ProductReview;
+import com.productdelivery.feedbackservice.service.ProductRatingSummaryRebuildJob;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +30,9 @@ class ProductReviewsRestControllerIT {
     @Autowired
     ReactiveMongoTemplate reactiveMongoTemplate;
 
+    @Autowired
+    ProductRatingSummaryRebuildJob productRatingSummaryRebuildJob;
+
     @BeforeEach
     void setUp() {
         this.reactiveMongoTemplate.insertAll(List.of(
@@ -42,6 +48,7 @@ class ProductReviewsRestControllerIT {
     @AfterEach
     void tearDown() {
         this.reactiveMongoTemplate.remove(ProductReview.class).all().block();
+        this.reactiveMongoTemplate.remove(ProductRatingSummary.class).all().block();
     }
 
     @Test
@@ -81,6 +88,47 @@ class ProductReviewsRestControllerIT {
                         ]""");
     }
 
+    @Test
+    void findProductReviewsByProductId_LimitIsSet_ReturnsPagesWithContinuationToken() {
+        // given
+        this.reactiveMongoTemplate.insertAll(List.of(
+                new ProductReview(UUID.fromString("0f3c3c1e-5b1f-4b4e-9a55-0b3c1e6f0a01"), 2, 5,
+                        "Отзыв №1", "user-1", Instant.parse("2024-01-03T00:00:00Z")),
+                new ProductReview(UUID.fromString("0f3c3c1e-5b1f-4b4e-9a55-0b3c1e6f0a02"), 2, 4,
+                        "Отзыв №2", "user-2", Instant.parse("2024-01-02T00:00:00Z")),
+                new ProductReview(UUID.fromString("0f3c3c1e-5b1f-4b4e-9a55-0b3c1e6f0a03"), 2, 3,
+                        "Отзыв №3", "user-3", Instant.parse("2024-01-01T00:00:00Z"))
+        )).blockLast();
+
+        // when
+        var continuationToken = this.webTestClient.mutateWith(mockJwt())
+                .get()
+                .uri("/feedback-api/product-reviews/by-product-id/2?limit=2")
+                .exchange()
+                // then
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ProductReviewsRestController.CONTINUATION_TOKEN_HEADER,
+                        "%d:0f3c3c1e-5b1f-4b4e-9a55-0b3c1e6f0a02"
+                                .formatted(Instant.parse("2024-01-02T00:00:00Z").toEpochMilli()))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo("0f3c3c1e-5b1f-4b4e-9a55-0b3c1e6f0a01")
+                .jsonPath("$[1].id").isEqualTo("0f3c3c1e-5b1f-4b4e-9a55-0b3c1e6f0a02")
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst(ProductReviewsRestController.CONTINUATION_TOKEN_HEADER);
+
+        this.webTestClient.mutateWith(mockJwt())
+                .get()
+                .uri("/feedback-api/product-reviews/by-product-id/2?limit=2&after={after}", continuationToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(ProductReviewsRestController.CONTINUATION_TOKEN_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo("0f3c3c1e-5b1f-4b4e-9a55-0b3c1e6f0a03");
+    }
+
     @Test
     void findProductReviewsByProductId_UserIsNotAuthenticated_ReturnsUnauthorized() {
         //given
@@ -93,6 +141,69 @@ class ProductReviewsRestControllerIT {
                 .expectStatus().isUnauthorized();
     }
 
+    @Test
+    void findProductRatingSummaryByProductId_SummariesAreRebuilt_ReturnsSummary() {
+        // given
+        this.productRatingSummaryRebuildJob.rebuildProductRatingSummaries().block();
+
+        // when
+        this.webTestClient.mutateWith(mockJwt())
+                .get()
+                .uri("/feedback-api/product-reviews/by-product-id/1/rating")
+                .exchange()
+                // then
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .json("""
+                        {
+                            "productId": 1,
+                            "count": 3,
+                            "sum": 9,
+                            "histogram": {
+                                "1": 1,
+                                "3": 1,
+                                "5": 1
+                            }
+                        }""");
+    }
+
+    @Test
+    void findProductRatingSummaryByProductId_ReviewIsCreated_ReturnsIncrementedSummary() {
+        // given
+        this.webTestClient
+                .mutateWith(mockJwt().jwt(builder -> builder.subject("user-test")))
+                .post()
+                .uri("/feedback-api/product-reviews")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                            "productId": 2,
+                            "rating": 4,
+                            "review": "Хорошо"
+                        }""")
+                .exchange()
+                .expectStatus().isCreated();
+
+        // when
+        this.webTestClient.mutateWith(mockJwt())
+                .get()
+                .uri("/feedback-api/product-reviews/by-product-id/2/rating")
+                .exchange()
+                // then
+                .expectStatus().isOk()
+                .expectBody()
+                .json("""
+                        {
+                            "productId": 2,
+                            "count": 1,
+                            "sum": 4,
+                            "histogram": {
+                                "4": 1
+                            }
+                        }""");
+    }
+
     @Test
     void createProductReview_RequestIsValid_ReturnsCreatedProductReview() {
         // given
@@ -1,6 +1,7 @@
 package com.productdelivery.feedbackservice.controller;
 
 import com.productdelivery.feedbackservice.controller.payload.NewProductReviewPayload;
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
 import com.productdelivery.feedbackservice.model.ProductReview;
 import com.productdelivery.feedbackservice.service.ProductReviewsService;
 import org.junit.jupiter.api.Test;
@@ -11,17 +12,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,30 +39,81 @@ class ProductReviewsRestControllerTest {
     ProductReviewsRestController controller;
 
     @Test
-    void findProductReviewsByProductId_ReturnsProductReviews() {
+    void findProductReviewsByProductId_ReturnsFirstPage() {
         // given
         doReturn(Flux.fromIterable(List.of(
                 new ProductReview(UUID.fromString("bc38e7f3-e028-4523-a4a6-b1286265b1cc"), 1, 5,
-                        "Отлично", "user-1"),
+                        "Отлично", "user-1", Instant.ofEpochMilli(3000)),
                 new ProductReview(UUID.fromString("677c8307-2e52-42a1-af6f-02fe06865297"), 1, 4,
-                        "Хорошо", "user-2"),
+                        "Хорошо", "user-2", Instant.ofEpochMilli(2000))
+        ))).when(this.productReviewsService).findProductReviewsByProduct(1, 2);
+
+        // when
+        StepVerifier.create(this.controller.findProductReviewsByProductId(1, null, 2))
+                // then
+                .expectNext(ResponseEntity.ok()
+                        .header(ProductReviewsRestController.CONTINUATION_TOKEN_HEADER,
+                                "2000:677c8307-2e52-42a1-af6f-02fe06865297")
+                        .body(List.of(
+                                new ProductReview(UUID.fromString("bc38e7f3-e028-4523-a4a6-b1286265b1cc"), 1, 5,
+                                        "Отлично", "user-1", Instant.ofEpochMilli(3000)),
+                                new ProductReview(UUID.fromString("677c8307-2e52-42a1-af6f-02fe06865297"), 1, 4,
+                                        "Хорошо", "user-2", Instant.ofEpochMilli(2000)))))
+                .verifyComplete();
+
+        verify(this.productReviewsService).findProductReviewsByProduct(1, 2);
+        verifyNoMoreInteractions(this.productReviewsService);
+    }
+
+    @Test
+    void findProductReviewsByProductId_AfterIsSet_ReturnsNextPage() {
+        // given
+        doReturn(Flux.fromIterable(List.of(
                 new ProductReview(UUID.fromString("318762a9-7f82-4b58-96b0-b8b3f1bbf651"), 1, 3,
-                        "Удовлетворительно", "user-3")
-        ))).when(this.productReviewsService).findProductReviewsByProduct(1);
+                        "Удовлетворительно", "user-3", Instant.ofEpochMilli(1000))
+        ))).when(this.productReviewsService).findProductReviewsByProduct(1, Instant.ofEpochMilli(2000),
+                UUID.fromString("677c8307-2e52-42a1-af6f-02fe06865297"), 2);
+
+        // when
+        StepVerifier.create(this.controller.findProductReviewsByProductId(1,
+                        "2000:677c8307-2e52-42a1-af6f-02fe06865297", 2))
+                // then
+                .expectNext(ResponseEntity.ok()
+                        .body(List.of(
+                                new ProductReview(UUID.fromString("318762a9-7f82-4b58-96b0-b8b3f1bbf651"), 1, 3,
+                                        "Удовлетворительно", "user-3", Instant.ofEpochMilli(1000)))))
+                .verifyComplete();
 
+        verify(this.productReviewsService).findProductReviewsByProduct(1, Instant.ofEpochMilli(2000),
+                UUID.fromString("677c8307-2e52-42a1-af6f-02fe06865297"), 2);
+        verifyNoMoreInteractions(this.productReviewsService);
+    }
+
+    @Test
+    void findProductReviewsByProductId_AfterIsInvalid_ReturnsServerWebInputException() {
+        // given
         // when
-        StepVerifier.create(this.controller.findProductReviewsByProductId(1))
+        StepVerifier.create(this.controller.findProductReviewsByProductId(1, "абв", 2))
                 // then
-                .expectNext(
-                        new ProductReview(UUID.fromString("bc38e7f3-e028-4523-a4a6-b1286265b1cc"), 1, 5,
-                                "Отлично", "user-1"),
-                        new ProductReview(UUID.fromString("677c8307-2e52-42a1-af6f-02fe06865297"), 1, 4,
-                                "Хорошо", "user-2"),
-                        new ProductReview(UUID.fromString("318762a9-7f82-4b58-96b0-b8b3f1bbf651"), 1, 3,
-                                "Удовлетворительно", "user-3")
-                ).verifyComplete();
-
-        verify(this.productReviewsService).findProductReviewsByProduct(1);
+                .expectError(ServerWebInputException.class)
+                .verify();
+
+        verifyNoInteractions(this.productReviewsService);
+    }
+
+    @Test
+    void findProductRatingSummaryByProductId_ReturnsProductRatingSummary() {
+        // given
+        doReturn(Mono.just(new ProductRatingSummary(1, 3, 12, Map.of(3, 1L, 4, 1L, 5, 1L))))
+                .when(this.productReviewsService).findProductRatingSummary(1);
+
+        // when
+        StepVerifier.create(this.controller.findProductRatingSummaryByProductId(1))
+                // then
+                .expectNext(new ProductRatingSummary(1, 3, 12, Map.of(3, 1L, 4, 1L, 5, 1L)))
+                .verifyComplete();
+
+        verify(this.productReviewsService).findProductRatingSummary(1);
         verifyNoMoreInteractions(this.productReviewsService);
     }
 
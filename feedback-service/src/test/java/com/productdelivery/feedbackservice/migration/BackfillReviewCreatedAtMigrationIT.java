@@ -0,0 +1,65 @@
+package com.productdelivery.feedbackservice.migration;
+
+import com.productdelivery.feedbackservice.model.ProductReview;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class BackfillReviewCreatedAtMigrationIT {
+
+    @Autowired
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    BackfillReviewCreatedAtMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        this.reactiveMongoTemplate.indexOps(ProductReview.class).dropAllIndexes().block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.reactiveMongoTemplate.remove(ProductReview.class).all().block();
+    }
+
+    @Test
+    void migrate_ReviewsHaveNoCreationTime_DatesThemToEpochAndBuildsIndex() {
+        // given
+        this.reactiveMongoTemplate.insert(new Document("_id", UUID.fromString("fdd24369-1ca0-4896-b874-ac9b540b6a56"))
+                        .append("productId", 1)
+                        .append("rating", 5)
+                        .append("review", "Очень вкусная чоколадка")
+                        .append("userId", "user"),
+                this.reactiveMongoTemplate.getCollectionName(ProductReview.class)).block();
+        this.reactiveMongoTemplate.insert(new ProductReview(UUID.fromString("1e8e029a-b516-4d5c-8590-0d8b78db75e9"),
+                1, 4, "Хорошая чоколадка", "user", Instant.parse("2024-02-14T12:00:00Z"))).block();
+
+        // when
+        this.migration.migrate(this.reactiveMongoTemplate).block();
+
+        // then
+        assertEquals(new ProductReview(UUID.fromString("fdd24369-1ca0-4896-b874-ac9b540b6a56"),
+                        1, 5, "Очень вкусная чоколадка", "user", Instant.EPOCH),
+                this.reactiveMongoTemplate.findById(UUID.fromString("fdd24369-1ca0-4896-b874-ac9b540b6a56"),
+                        ProductReview.class).block());
+        assertEquals(new ProductReview(UUID.fromString("1e8e029a-b516-4d5c-8590-0d8b78db75e9"),
+                        1, 4, "Хорошая чоколадка", "user", Instant.parse("2024-02-14T12:00:00Z")),
+                this.reactiveMongoTemplate.findById(UUID.fromString("1e8e029a-b516-4d5c-8590-0d8b78db75e9"),
+                        ProductReview.class).block());
+        assertTrue(this.reactiveMongoTemplate.indexOps(ProductReview.class).getIndexInfo()
+                .any(index -> index.getName().equals("product_id_created_at"))
+                .block());
+    }
+}
@@ -0,0 +1,63 @@
+package com.productdelivery.feedbackservice.migration;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class RemoveDuplicateFavouritesMigrationIT {
+
+    @Autowired
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    RemoveDuplicateFavouritesMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        this.reactiveMongoTemplate.indexOps(FavouriteProduct.class).dropAllIndexes().block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.reactiveMongoTemplate.remove(FavouriteProduct.class).all().block();
+    }
+
+    @Test
+    void migrate_FavouritesAreDuplicated_KeepsFirstStoredFavouriteAndBuildsUniqueIndex() {
+        // given
+        this.reactiveMongoTemplate.insert(new FavouriteProduct(
+                UUID.fromString("fdd24369-1ca0-4896-b874-ac9b540b6a56"), 1, "user")).block();
+        this.reactiveMongoTemplate.insert(new FavouriteProduct(
+                UUID.fromString("1e8e029a-b516-4d5c-8590-0d8b78db75e9"), 1, "user")).block();
+        this.reactiveMongoTemplate.insert(new FavouriteProduct(
+                UUID.fromString("7d4823bc-3b7d-4fa5-a061-a677b27e7f5b"), 2, "user")).block();
+
+        // when
+        this.migration.migrate(this.reactiveMongoTemplate).block();
+
+        // then
+        assertEquals(List.of(
+                        new FavouriteProduct(UUID.fromString("fdd24369-1ca0-4896-b874-ac9b540b6a56"), 1, "user"),
+                        new FavouriteProduct(UUID.fromString("7d4823bc-3b7d-4fa5-a061-a677b27e7f5b"), 2, "user")),
+                this.reactiveMongoTemplate.findAll(FavouriteProduct.class).collectList().block());
+        assertTrue(this.reactiveMongoTemplate.indexOps(FavouriteProduct.class).getIndexInfo()
+                .any(index -> index.getName().equals("user_id_product_id") && index.isUnique())
+                .block());
+        StepVerifier.create(this.reactiveMongoTemplate.insert(new FavouriteProduct(
+                        UUID.fromString("3b9a7a4e-52ad-4f0f-9f54-2f3f8f8e0c11"), 2, "user")))
+                .verifyError(DuplicateKeyException.class);
+    }
+}
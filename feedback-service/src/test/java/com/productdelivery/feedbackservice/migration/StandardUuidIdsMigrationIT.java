@@ -0,0 +1,117 @@
+package com.productdelivery.feedbackservice.migration;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import com.productdelivery.feedbackservice.repository.FavouriteProductRepository;
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.UuidRepresentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.data.mongodb.uuid-representation=standard")
+class StandardUuidIdsMigrationIT {
+
+    @Autowired
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    FavouriteProductRepository favouriteProductRepository;
+
+    @Autowired
+    StandardUuidIdsMigration migration;
+
+    @AfterEach
+    void tearDown() {
+        this.reactiveMongoTemplate.remove(FavouriteProduct.class).all().block();
+        this.reactiveMongoTemplate.remove(ProductReview.class).all().block();
+    }
+
+    @Test
+    void migrate_IdsAreStoredByLegacyCodec_RewritesIdsAsStandardUuids() {
+        // given
+        UUID legacyId = UUID.fromString("1e8e029a-b516-4d5c-8590-0d8b78db75e9");
+        UUID standardId = UUID.fromString("018e0f4e-7c00-7abc-8def-0123456789ab");
+        this.insert(this.reactiveMongoTemplate.getCollectionName(FavouriteProduct.class),
+                new BsonDocument("_id", new BsonBinary(legacyId, UuidRepresentation.JAVA_LEGACY))
+                        .append("productId", new BsonInt32(1))
+                        .append("userId", new BsonString("user")));
+        this.reactiveMongoTemplate.insert(new FavouriteProduct(standardId, 2, "user")).block();
+        this.insert(this.reactiveMongoTemplate.getCollectionName(ProductReview.class),
+                new BsonDocument("_id", new BsonBinary(legacyId, UuidRepresentation.JAVA_LEGACY))
+                        .append("productId", new BsonInt32(1))
+                        .append("rating", new BsonInt32(5))
+                        .append("review", new BsonString("Очень вкусная чоколадка"))
+                        .append("userId", new BsonString("user"))
+                        .append("createdAt", new BsonDateTime(0)));
+
+        // when
+        this.migration.migrate(this.reactiveMongoTemplate).block();
+
+        // then
+        assertEquals(List.of(new FavouriteProduct(legacyId, 1, "user"), new FavouriteProduct(standardId, 2, "user")),
+                this.findFavouritesByProductId());
+        assertEquals(new ProductReview(legacyId, 1, 5, "Очень вкусная чоколадка", "user", Instant.EPOCH),
+                this.reactiveMongoTemplate.findById(legacyId, ProductReview.class).block());
+        assertEquals(new FavouriteProduct(legacyId, 1, "user"),
+                this.favouriteProductRepository.findByProductIdAndUserId(1, "user").block());
+        assertTrue(this.reactiveMongoTemplate.indexOps(FavouriteProduct.class).getIndexInfo()
+                .any(index -> index.getName().equals("user_id_product_id") && index.isUnique())
+                .block());
+    }
+
+    @Test
+    void migrate_PreviousRunWasInterrupted_RestoresStagedCopies() {
+        // given
+        UUID removedId = UUID.fromString("1e8e029a-b516-4d5c-8590-0d8b78db75e9");
+        UUID storedId = UUID.fromString("018e0f4e-7c00-7abc-8def-0123456789ab");
+        String collectionName = this.reactiveMongoTemplate.getCollectionName(FavouriteProduct.class);
+        this.reactiveMongoTemplate.insert(new FavouriteProduct(storedId, 2, "user")).block();
+        this.insert(collectionName + "_standard_uuid",
+                new BsonDocument("_id", new BsonBinary(removedId, UuidRepresentation.STANDARD))
+                        .append("productId", new BsonInt32(1))
+                        .append("userId", new BsonString("user")));
+        this.insert(collectionName + "_standard_uuid",
+                new BsonDocument("_id", new BsonBinary(storedId, UuidRepresentation.STANDARD))
+                        .append("productId", new BsonInt32(2))
+                        .append("userId", new BsonString("user")));
+
+        // when
+        this.migration.migrate(this.reactiveMongoTemplate).block();
+
+        // then
+        assertEquals(List.of(new FavouriteProduct(removedId, 1, "user"), new FavouriteProduct(storedId, 2, "user")),
+                this.findFavouritesByProductId());
+        assertFalse(this.reactiveMongoTemplate.collectionExists(collectionName + "_standard_uuid").block());
+    }
+
+    List<FavouriteProduct> findFavouritesByProductId() {
+        return this.reactiveMongoTemplate.find(new Query().with(Sort.by("productId")), FavouriteProduct.class)
+                .collectList()
+                .block();
+    }
+
+    void insert(String collectionName, BsonDocument document) {
+        this.reactiveMongoTemplate.getCollection(collectionName)
+                .flatMap(collection -> Mono.from(collection.withDocumentClass(BsonDocument.class)
+                        .insertOne(document)))
+                .block();
+    }
+}
@@ -0,0 +1,59 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class FavouriteProductInserterTest {
+
+    @Mock
+    FavouriteProductRepository favouriteProductRepository;
+
+    @Mock
+    WriteBehindInserter<FavouriteProduct> writeBehindInserter;
+
+    @Test
+    void insert_WriteBehindIsDisabled_UpsertsFavouriteProduct() {
+        // given
+        var favouriteProduct = new FavouriteProduct(UUID.fromString("fe87eef6-cbd7-11ee-aeb6-275dac91de02"), 1,
+                "9fcb9f42-0a9d-4430-a0d3-105931c78d58");
+        doReturn(Mono.just(favouriteProduct)).when(this.favouriteProductRepository).upsert(favouriteProduct);
+
+        // when
+        StepVerifier.create(new FavouriteProductInserter(this.favouriteProductRepository).insert(favouriteProduct))
+                // then
+                .expectNext(favouriteProduct)
+                .verifyComplete();
+    }
+
+    @Test
+    void insert_ProductIsAlreadyInFavourites_ReturnsExistingFavouriteProduct() {
+        // given
+        var favouriteProduct = new FavouriteProduct(UUID.fromString("3b9a7a4e-52ad-4f0f-9f54-2f3f8f8e0c11"), 1,
+                "9fcb9f42-0a9d-4430-a0d3-105931c78d58");
+        doReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")))
+                .when(this.writeBehindInserter).insert(favouriteProduct);
+        doReturn(Mono.just(new FavouriteProduct(UUID.fromString("fe87eef6-cbd7-11ee-aeb6-275dac91de02"), 1,
+                "9fcb9f42-0a9d-4430-a0d3-105931c78d58")))
+                .when(this.favouriteProductRepository)
+                .findByProductIdAndUserId(1, "9fcb9f42-0a9d-4430-a0d3-105931c78d58");
+
+        // when
+        StepVerifier.create(new FavouriteProductInserter(this.favouriteProductRepository, this.writeBehindInserter)
+                        .insert(favouriteProduct))
+                // then
+                .expectNext(new FavouriteProduct(UUID.fromString("fe87eef6-cbd7-11ee-aeb6-275dac91de02"), 1,
+                        "9fcb9f42-0a9d-4430-a0d3-105931c78d58"))
+                .verifyComplete();
+    }
+}
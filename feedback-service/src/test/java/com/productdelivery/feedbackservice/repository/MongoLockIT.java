@@ -0,0 +1,71 @@
+package com.productdelivery.feedbackservice.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+@SpringBootTest
+class MongoLockIT {
+
+    static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    @Autowired
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        this.reactiveMongoTemplate.dropCollection(MongoLock.COLLECTION).block();
+    }
+
+    @Test
+    void tryLock_LockIsHeldByAnotherInstance_ReturnsFalse() {
+        // given
+        MongoLock first = new MongoLock(this.reactiveMongoTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+        MongoLock second = new MongoLock(this.reactiveMongoTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+        first.tryLock("рейтинги", Duration.ofMinutes(5)).block();
+
+        // when
+        StepVerifier.create(second.tryLock("рейтинги", Duration.ofMinutes(5)))
+                // then
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    void tryLock_LockHasExpired_ReturnsTrue() {
+        // given
+        MongoLock first = new MongoLock(this.reactiveMongoTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+        MongoLock second = new MongoLock(this.reactiveMongoTemplate,
+                Clock.fixed(NOW.plus(Duration.ofMinutes(6)), ZoneOffset.UTC));
+        first.tryLock("рейтинги", Duration.ofMinutes(5)).block();
+
+        // when
+        StepVerifier.create(second.tryLock("рейтинги", Duration.ofMinutes(5)))
+                // then
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void runIfFree_LockIsReleased_RunsActionOnEachCall() {
+        // given
+        MongoLock first = new MongoLock(this.reactiveMongoTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+        MongoLock second = new MongoLock(this.reactiveMongoTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when
+        StepVerifier.create(first.runIfFree("рейтинги", Duration.ofMinutes(5), () -> Mono.just("первый"))
+                        .then(second.runIfFree("рейтинги", Duration.ofMinutes(5), () -> Mono.just("второй"))))
+                // then
+                .expectNext("второй")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,161 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ProductRatingSummaryRepositoryIT {
+
+    @Autowired
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    ProductRatingSummaryRepository productRatingSummaryRepository;
+
+    @AfterEach
+    void tearDown() {
+        this.reactiveMongoTemplate.remove(ProductReview.class).all().block();
+        this.reactiveMongoTemplate.remove(ProductRatingSummary.class).all().block();
+    }
+
+    @Test
+    void rebuildAll_SummariesHaveDrifted_RecountsThemFromReviews() {
+        // given
+        this.reactiveMongoTemplate.insertAll(List.of(
+                new ProductReview(UUID.fromString("f5adccd9-eed6-40e2-bb02-f7a3464c410f"), 1, 1,
+                        "Отзыв №1", "user-1"),
+                new ProductReview(UUID.fromString("414234d4-b0f2-4b6e-93c9-fbf2dd289114"), 1, 5,
+                        "Отзыв №2", "user-2"),
+                new ProductReview(UUID.fromString("99890491-fb06-410b-a6ef-ec97e8f2978d"), 1, 5,
+                        "Отзыв №3", "user-3"))).blockLast();
+        this.reactiveMongoTemplate.insertAll(List.of(
+                new ProductRatingSummary(1, 1, 1, Map.of(1, 1L)),
+                new ProductRatingSummary(2, 2, 8, Map.of(4, 2L)))).blockLast();
+
+        // when
+        this.productRatingSummaryRepository.rebuildAll().block();
+
+        // then
+        assertEquals(new ProductRatingSummary(1, 3, 11, Map.of(1, 1L, 5, 2L)),
+                this.productRatingSummaryRepository.findById(1).block());
+        assertEquals(new ProductRatingSummary(2, 0, 0, Map.of()),
+                this.productRatingSummaryRepository.findById(2).block());
+    }
+
+    @Test
+    void incrementRating_SummaryHasBeenRebuilt_IncrementsRebuiltSummaryAndItsVersion() {
+        // given
+        this.reactiveMongoTemplate.insert(new ProductReview(UUID.fromString("f5adccd9-eed6-40e2-bb02-f7a3464c410f"),
+                1, 4, "Отзыв №1", "user-1")).block();
+        this.productRatingSummaryRepository.rebuildAll().block();
+
+        // when
+        this.productRatingSummaryRepository.incrementRating(new ProductReview(
+                UUID.fromString("414234d4-b0f2-4b6e-93c9-fbf2dd289114"), 1, 2, "Отзыв №2", "user-2")).block();
+
+        // then
+        assertEquals(new ProductRatingSummary(1, 2, 6, Map.of(2, 1L, 4, 1L)),
+                this.productRatingSummaryRepository.findById(1).block());
+        assertEquals(1, this.reactiveMongoTemplate.findById(1, Document.class,
+                        this.reactiveMongoTemplate.getCollectionName(ProductRatingSummary.class))
+                .map(summary -> summary.getInteger(ProductRatingSummaryOperationsImpl.VERSION))
+                .block());
+    }
+
+    @Test
+    void rebuildAll_ReviewIsStoredButNotConfirmed_CountsItOnce() {
+        // given
+        var productReview = new ProductReview(UUID.fromString("f5adccd9-eed6-40e2-bb02-f7a3464c410f"), 1, 4,
+                "Отзыв №1", "user-1");
+        this.productRatingSummaryRepository.incrementRating(productReview).block();
+        this.reactiveMongoTemplate.insert(productReview).block();
+
+        // when
+        this.productRatingSummaryRepository.rebuildAll().block();
+        this.productRatingSummaryRepository.confirmRating(productReview).block();
+
+        // then
+        assertEquals(new ProductRatingSummary(1, 1, 4, Map.of(4, 1L)),
+                this.productRatingSummaryRepository.findById(1).block());
+        this.productRatingSummaryRepository.rebuildAll().block();
+        assertEquals(new ProductRatingSummary(1, 1, 4, Map.of(4, 1L)),
+                this.productRatingSummaryRepository.findById(1).block());
+    }
+
+    @Test
+    void rebuildAll_ReviewIsCountedButNotStored_KeepsItsRating() {
+        // given
+        var productReview = new ProductReview(UUID.fromString("f5adccd9-eed6-40e2-bb02-f7a3464c410f"), 1, 4,
+                "Отзыв №1", "user-1");
+        this.productRatingSummaryRepository.incrementRating(productReview).block();
+
+        // when
+        this.productRatingSummaryRepository.rebuildAll().block();
+        this.reactiveMongoTemplate.insert(productReview).block();
+        this.productRatingSummaryRepository.confirmRating(productReview).block();
+
+        // then
+        assertEquals(new ProductRatingSummary(1, 1, 4, Map.of(4, 1L)),
+                this.productRatingSummaryRepository.findById(1).block());
+    }
+
+    @Test
+    void rebuildAll_PendingReviewIsStale_CountsStoredReviewsOnly() {
+        // given
+        this.reactiveMongoTemplate.insert(new ProductReview(UUID.fromString("f5adccd9-eed6-40e2-bb02-f7a3464c410f"),
+                1, 4, "Отзыв №1", "user-1")).block();
+        this.reactiveMongoTemplate.insert(new Document("_id", 1)
+                        .append("count", 2L)
+                        .append("sum", 9L)
+                        .append("histogram", new Document("4", 1L).append("5", 1L))
+                        .append(ProductRatingSummaryOperationsImpl.VERSION, 2)
+                        .append(ProductRatingSummaryOperationsImpl.PENDING_REVIEWS, List.of(
+                                new Document("_id", UUID.fromString("414234d4-b0f2-4b6e-93c9-fbf2dd289114"))
+                                        .append("rating", 5)
+                                        .append("countedAt", Date.from(Instant.now()
+                                                .minus(ProductRatingSummaryOperationsImpl.PENDING_REVIEW_TIMEOUT)
+                                                .minusSeconds(1))))),
+                this.reactiveMongoTemplate.getCollectionName(ProductRatingSummary.class)).block();
+
+        // when
+        this.productRatingSummaryRepository.rebuildAll().block();
+
+        // then
+        assertEquals(new ProductRatingSummary(1, 1, 4, Map.of(4, 1L)),
+                this.productRatingSummaryRepository.findById(1).block());
+        assertEquals(List.of(), this.reactiveMongoTemplate.findById(1, Document.class,
+                        this.reactiveMongoTemplate.getCollectionName(ProductRatingSummary.class))
+                .map(summary -> summary.getList(ProductRatingSummaryOperationsImpl.PENDING_REVIEWS, Document.class))
+                .block());
+    }
+
+    @Test
+    void revertRating_ReviewIsPending_TakesBackItsCount() {
+        // given
+        var productReview = new ProductReview(UUID.fromString("f5adccd9-eed6-40e2-bb02-f7a3464c410f"), 1, 4,
+                "Отзыв №1", "user-1");
+        this.productRatingSummaryRepository.incrementRating(productReview).block();
+
+        // when
+        this.productRatingSummaryRepository.revertRating(productReview).block();
+        this.productRatingSummaryRepository.revertRating(productReview).block();
+
+        // then
+        assertEquals(new ProductRatingSummary(1, 0, 0, Map.of(4, 0L)),
+                this.productRatingSummaryRepository.findById(1).block());
+    }
+}
@@ -0,0 +1,108 @@
+package com.productdelivery.feedbackservice.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindInserterTest {
+
+    @Mock
+    ReactiveMongoOperations mongoOperations;
+
+    @Mock
+    ReactiveBulkOperations bulkOperations;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    WriteBehindInserter<FavouriteProduct> inserter;
+
+    @BeforeEach
+    void setUp() {
+        doReturn("favourite_product").when(this.mongoOperations).getCollectionName(FavouriteProduct.class);
+        this.inserter = new WriteBehindInserter<>(this.mongoOperations, FavouriteProduct.class, 2,
+                Duration.ofSeconds(1), 16, 1, Duration.ofSeconds(1), this.meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.inserter.destroy();
+    }
+
+    @Test
+    void insert_FlushesDocumentsInSingleBulkWrite() {
+        // given
+        var first = new FavouriteProduct(UUID.fromString("0190a1b2-6f1e-7c3a-9d4e-1f2a3b4c5d6e"), 1,
+                "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c");
+        var second = new FavouriteProduct(UUID.fromString("0190a1b2-6f1e-7c3a-9d4e-1f2a3b4c5d6f"), 2,
+                "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c");
+        doReturn(this.bulkOperations).when(this.mongoOperations)
+                .bulkOps(BulkOperations.BulkMode.UNORDERED, FavouriteProduct.class);
+        doReturn(this.bulkOperations).when(this.bulkOperations).insert(anyList());
+        doReturn(Mono.just(mock(BulkWriteResult.class))).when(this.bulkOperations).execute();
+
+        // when
+        StepVerifier.create(Mono.zip(this.inserter.insert(first), this.inserter.insert(second)))
+                // then
+                .expectNextMatches(tuple -> tuple.getT1().equals(first) && tuple.getT2().equals(second))
+                .verifyComplete();
+
+        verify(this.bulkOperations).insert(List.of(first, second));
+        assertEquals(2, this.meterRegistry.get("feedback.write-behind.batch.size").summary().totalAmount());
+        assertEquals(1, this.meterRegistry.get("feedback.write-behind.flush").tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void insert_OneDocumentIsDuplicate_RejectsOnlyDuplicate() {
+        // given
+        var first = new FavouriteProduct(UUID.fromString("0190a1b2-6f1e-7c3a-9d4e-1f2a3b4c5d6e"), 1,
+                "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c");
+        var duplicate = new FavouriteProduct(UUID.fromString("0190a1b2-6f1e-7c3a-9d4e-1f2a3b4c5d6f"), 1,
+                "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c");
+        doReturn(this.bulkOperations).when(this.mongoOperations)
+                .bulkOps(BulkOperations.BulkMode.UNORDERED, FavouriteProduct.class);
+        doReturn(this.bulkOperations).when(this.bulkOperations).insert(anyList());
+        doReturn(Mono.error(new MongoBulkWriteException(mock(BulkWriteResult.class),
+                List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1)),
+                null, new ServerAddress(), Set.of())))
+                .when(this.bulkOperations).execute();
+
+        // when
+        StepVerifier.create(Mono.zip(this.inserter.insert(first), this.inserter.insert(duplicate).materialize()))
+                // then
+                .expectNextMatches(tuple -> tuple.getT1().equals(first) &&
+                        tuple.getT2().getThrowable() instanceof DuplicateKeyException)
+                .verifyComplete();
+
+        assertEquals(1, this.meterRegistry.get("feedback.write-behind.flush").tag("outcome", "error")
+                .timer().count());
+    }
+}
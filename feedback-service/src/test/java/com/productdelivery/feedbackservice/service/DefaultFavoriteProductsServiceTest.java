@@ -1,12 +1,15 @@
 package com.productdelivery.feedbackservice.service;
 
 import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.repository.DocumentInserter;
 import com.productdelivery.feedbackservice.repository.FavouriteProductRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.IdGenerator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -26,6 +29,12 @@ class DefaultFavoriteProductsServiceTest {
     @Mock
     FavouriteProductRepository favouriteProductRepository;
 
+    @Mock
+    DocumentInserter<FavouriteProduct> favouriteProductInserter;
+
+    @Spy
+    IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
     @InjectMocks
     DefaultFavoriteProductsService service;
 
@@ -33,7 +42,7 @@ class DefaultFavoriteProductsServiceTest {
     void addProductToFavourites_ReturnsAddedFavouriteProduct() {
         // given
         doAnswer(invocation -> Mono.justOrEmpty(invocation.getArguments()[0]))
-                .when(this.favouriteProductRepository).save(any());
+                .when(this.favouriteProductInserter).insert(any());
 
         // when
         StepVerifier.create(this.service
@@ -44,10 +53,10 @@ class DefaultFavoriteProductsServiceTest {
                         favouriteProduct.getId() != null)
                 .verifyComplete();
 
-        verify(this.favouriteProductRepository).save(argThat(favouriteProductRepository ->
-                favouriteProductRepository.getProductId() == 1 &&
-                        favouriteProductRepository.getUserId().equals("9fcb9f42-0a9d-4430-a0d3-105931c78d58") &&
-                        favouriteProductRepository.getId() != null));
+        verify(this.favouriteProductInserter).insert(argThat(favouriteProduct ->
+                favouriteProduct.getProductId() == 1 &&
+                        favouriteProduct.getUserId().equals("9fcb9f42-0a9d-4430-a0d3-105931c78d58") &&
+                        favouriteProduct.getId() != null));
     }
 
     @Test
@@ -0,0 +1,71 @@
+package com.productdelivery.feedbackservice.service;
+
+import com.productdelivery.feedbackservice.model.FavouriteProduct;
+import com.productdelivery.feedbackservice.model.ProductFeedback;
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
+import com.productdelivery.feedbackservice.model.ProductReview;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultProductFeedbackServiceTest {
+
+    @Mock
+    ProductReviewsService productReviewsService;
+
+    @Mock
+    FavouriteProductsService favouriteProductsService;
+
+    @InjectMocks
+    DefaultProductFeedbackService service;
+
+    @Test
+    void findProductFeedback_ReturnsReviewsRatingAndFavouriteState() {
+        // given
+        var review = new ProductReview(UUID.fromString("bd7779c2-cb05-11ee-b5f3-df46a1249898"), 1, 5,
+                "Отличный товар", "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c");
+        var ratingSummary = new ProductRatingSummary(1, 1, 5, Map.of(5, 1L));
+
+        doReturn(Flux.just(review)).when(this.productReviewsService).findProductReviewsByProduct(1, 20);
+        doReturn(Mono.just(ratingSummary)).when(this.productReviewsService).findProductRatingSummary(1);
+        doReturn(Mono.just(new FavouriteProduct(UUID.fromString("fe87eef6-cbd7-11ee-aeb6-275dac91de02"), 1,
+                "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c")))
+                .when(this.favouriteProductsService)
+                .findFavouriteProductByProduct(1, "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c");
+
+        // when
+        StepVerifier.create(this.service.findProductFeedback(1, "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c", 20))
+                // then
+                .expectNext(new ProductFeedback(List.of(review), ratingSummary, true))
+                .verifyComplete();
+    }
+
+    @Test
+    void findProductFeedback_ProductIsNotInFavourites_ReturnsFeedbackNotInFavourite() {
+        // given
+        var ratingSummary = new ProductRatingSummary(1, 0, 0, Map.of());
+
+        doReturn(Flux.empty()).when(this.productReviewsService).findProductReviewsByProduct(1, 20);
+        doReturn(Mono.just(ratingSummary)).when(this.productReviewsService).findProductRatingSummary(1);
+        doReturn(Mono.empty()).when(this.favouriteProductsService)
+                .findFavouriteProductByProduct(1, "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c");
+
+        // when
+        StepVerifier.create(this.service.findProductFeedback(1, "5f1d5cf8-cbd6-11ee-9579-cf24d050b47c", 20))
+                // then
+                .expectNext(new ProductFeedback(List.of(), ratingSummary, false))
+                .verifyComplete();
+    }
+}
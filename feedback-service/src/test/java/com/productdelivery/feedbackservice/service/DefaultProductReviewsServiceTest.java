@@ -1,22 +1,34 @@
 package com.productdelivery.feedbackservice.service;
 
+import com.productdelivery.feedbackservice.model.ProductRatingSummary;
 import com.productdelivery.feedbackservice.model.ProductReview;
+import com.productdelivery.feedbackservice.repository.DocumentInserter;
+import com.productdelivery.feedbackservice.repository.ProductRatingSummaryRepository;
 import com.productdelivery.feedbackservice.repository.ProductReviewRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.Limit;
+import org.springframework.util.IdGenerator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultProductReviewsServiceTest {
@@ -24,14 +36,25 @@ class DefaultProductReviewsServiceTest {
     @Mock
     ProductReviewRepository productReviewRepository;
 
+    @Mock
+    ProductRatingSummaryRepository productRatingSummaryRepository;
+
+    @Mock
+    DocumentInserter<ProductReview> productReviewInserter;
+
+    @Spy
+    IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
     @InjectMocks
     DefaultProductReviewsService service;
 
     @Test
     void createProductReview_ReturnsCreatedProductReview() {
         // given
-        doAnswer(invocation -> Mono.justOrEmpty(invocation.getArguments()[0])).when(this.productReviewRepository)
-                .save(any());
+        doAnswer(invocation -> Mono.justOrEmpty(invocation.getArguments()[0])).when(this.productReviewInserter)
+                .insert(any());
+        doReturn(Mono.empty()).when(this.productRatingSummaryRepository).incrementRating(any());
+        doReturn(Mono.empty()).when(this.productRatingSummaryRepository).confirmRating(any());
 
         // when
         StepVerifier.create(this.service.createProductReview(1, 3, "Такое себе",
@@ -41,9 +64,33 @@ class DefaultProductReviewsServiceTest {
                         productReview.getProductId() == 1 && productReview.getRating() == 3 &&
                                 productReview.getUserId().equals("ccaa86c0-6037-4b28-93f8-d2a4308c137c") &&
                                 productReview.getReview().equals("Такое себе") &&
-                                productReview.getId() != null)
+                                productReview.getId() != null && productReview.getCreatedAt() != null)
                 .verifyComplete();
 
+        var inOrder = inOrder(this.productRatingSummaryRepository, this.productReviewInserter);
+        inOrder.verify(this.productRatingSummaryRepository).incrementRating(argThat(productReview ->
+                productReview.getProductId() == 1 && productReview.getRating() == 3));
+        inOrder.verify(this.productReviewInserter).insert(any());
+        inOrder.verify(this.productRatingSummaryRepository).confirmRating(any());
+    }
+
+    @Test
+    void createProductReview_InsertFails_RevertsRatingAndReturnsError() {
+        // given
+        doReturn(Mono.empty()).when(this.productRatingSummaryRepository).incrementRating(any());
+        doReturn(Mono.error(new TransientDataAccessResourceException("Буфер переполнен")))
+                .when(this.productReviewInserter).insert(any());
+        doReturn(Mono.empty()).when(this.productRatingSummaryRepository).revertRating(any());
+
+        // when
+        StepVerifier.create(this.service.createProductReview(1, 3, "Такое себе",
+                        "ccaa86c0-6037-4b28-93f8-d2a4308c137c"))
+                // then
+                .verifyError(TransientDataAccessResourceException.class);
+
+        verify(this.productRatingSummaryRepository).revertRating(argThat(productReview ->
+                productReview.getProductId() == 1 && productReview.getRating() == 3));
+        verify(this.productRatingSummaryRepository, never()).confirmRating(any());
     }
 
     @Test
@@ -56,10 +103,10 @@ class DefaultProductReviewsServiceTest {
                         "Отзыв №2", "user-1"),
                 new ProductReview(UUID.fromString("1bd7d60b-5830-47a2-a584-4f3294905fe8"), 1, 5,
                         "Отзыв №3", "user-1"))))
-                .when(this.productReviewRepository).findAllByProductId(1);
+                .when(this.productReviewRepository).findAllByProductIdOrderByCreatedAtDescIdDesc(1, Limit.of(20));
 
         // when
-        StepVerifier.create(this.service.findProductReviewsByProduct(1))
+        StepVerifier.create(this.service.findProductReviewsByProduct(1, 20))
                 // then
                 .expectNext(
                         new ProductReview(UUID.fromString("67c9d350-3ec0-4238-a616-079643411f4c"),
@@ -70,4 +117,29 @@ class DefaultProductReviewsServiceTest {
                                 1, 5, "Отзыв №3", "user-1"))
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findProductRatingSummary_SummaryExists_ReturnsSummary() {
+        // given
+        doReturn(Mono.just(new ProductRatingSummary(1, 3, 12, Map.of(3, 1L, 4, 1L, 5, 1L))))
+                .when(this.productRatingSummaryRepository).findById(1);
+
+        // when
+        StepVerifier.create(this.service.findProductRatingSummary(1))
+                // then
+                .expectNext(new ProductRatingSummary(1, 3, 12, Map.of(3, 1L, 4, 1L, 5, 1L)))
+                .verifyComplete();
+    }
+
+    @Test
+    void findProductRatingSummary_SummaryDoesNotExist_ReturnsEmptySummary() {
+        // given
+        doReturn(Mono.empty()).when(this.productRatingSummaryRepository).findById(1);
+
+        // when
+        StepVerifier.create(this.service.findProductRatingSummary(1))
+                // then
+                .expectNext(new ProductRatingSummary(1, 0, 0, Map.of()))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,68 @@
+package com.productdelivery.feedbackservice.service;
+
+import com.productdelivery.feedbackservice.repository.MongoLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRatingSummaryRebuildJobTest {
+
+    @Mock
+    ProductReviewsService productReviewsService;
+
+    @Mock
+    MongoLock mongoLock;
+
+    ProductRatingSummaryRebuildJob job;
+
+    @BeforeEach
+    void setUp() {
+        this.job = new ProductRatingSummaryRebuildJob(this.productReviewsService, this.mongoLock,
+                Duration.ofMinutes(30));
+    }
+
+    @Test
+    void rebuildProductRatingSummaries_LockIsFree_RebuildsSummaries() {
+        // given
+        doAnswer(invocation -> invocation.<Supplier<Mono<?>>>getArgument(2).get())
+                .when(this.mongoLock).runIfFree(eq("product-rating-summary-rebuild"), eq(Duration.ofMinutes(30)),
+                        any());
+        doReturn(Mono.empty()).when(this.productReviewsService).rebuildProductRatingSummaries();
+
+        // when
+        StepVerifier.create(this.job.rebuildProductRatingSummaries())
+                // then
+                .verifyComplete();
+
+        verify(this.productReviewsService).rebuildProductRatingSummaries();
+    }
+
+    @Test
+    void rebuildProductRatingSummaries_LockIsHeldByAnotherInstance_SkipsRebuild() {
+        // given
+        doReturn(Mono.empty()).when(this.mongoLock).runIfFree(eq("product-rating-summary-rebuild"),
+                eq(Duration.ofMinutes(30)), any());
+
+        // when
+        StepVerifier.create(this.job.rebuildProductRatingSummaries())
+                // then
+                .verifyComplete();
+
+        verifyNoInteractions(this.productReviewsService);
+    }
+}
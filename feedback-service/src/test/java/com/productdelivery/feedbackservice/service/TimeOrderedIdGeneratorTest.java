@@ -0,0 +1,40 @@
+package com.productdelivery.feedbackservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedIdGeneratorTest {
+
+    TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+    @Test
+    void generateId_ReturnsVersion7Uuid() {
+        // given
+        var before = System.currentTimeMillis();
+
+        // when
+        var result = this.idGenerator.generateId();
+
+        // then
+        assertEquals(7, result.version());
+        assertEquals(2, result.variant());
+        var timestamp = result.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+    }
+
+    @Test
+    void generateId_IdsAreGeneratedInDifferentMilliseconds_ReturnsAscendingIds() throws InterruptedException {
+        // given
+        var first = this.idGenerator.generateId();
+        Thread.sleep(2);
+
+        // when
+        var result = this.idGenerator.generateId();
+
+        // then
+        assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), result.getMostSignificantBits()) < 0);
+        assertTrue(result.toString().compareTo(first.toString()) > 0);
+    }
+}
@@ -5,12 +5,18 @@ import com.productdelivery.managerservice.controller.payload.UpdateProductPayloa
 import com.productdelivery.managerservice.model.Product;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -20,15 +26,36 @@ public class RestClientProductsRestClient implements ProductsRestClient {
             new ParameterizedTypeReference<>() {
             };
 
+    private static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
+    private static final int MAX_VALIDATED_PRODUCTS = 256;
+
     private final RestClient restClient;
 
+    private final Map<Integer, ValidatedProduct> validatedProducts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, ValidatedProduct> eldest) {
+                    return this.size() > MAX_VALIDATED_PRODUCTS;
+                }
+            });
+
     @Override
     public List<Product> findAllProducts(String filter) {
-        return this.restClient
-                .get()
-                .uri("/catalog-api/products?filter={filter}", filter)
-                .retrieve()
-                .body(PRODUCT_TYPE_REFERENCE);
+        List<Product> products = new ArrayList<>();
+        String after = "0";
+        while (after != null) {
+            ResponseEntity<List<Product>> response = this.restClient
+                    .get()
+                    .uri("/catalog-api/products?filter={filter}&after={after}&fields=id,title", filter, after)
+                    .retrieve()
+                    .toEntity(PRODUCT_TYPE_REFERENCE);
+            if (response.getBody() != null) {
+                products.addAll(response.getBody());
+            }
+            after = response.getHeaders().getFirst(CONTINUATION_TOKEN_HEADER);
+        }
+        return products;
     }
 
     @Override
@@ -49,12 +76,28 @@ public class RestClientProductsRestClient implements ProductsRestClient {
 
     @Override
     public Optional<Product> findProduct(int productId) {
+        ValidatedProduct validatedProduct = this.validatedProducts.get(productId);
         try {
-            return Optional.ofNullable(this.restClient.get()
+            ResponseEntity<Product> response = this.restClient.get()
                     .uri("/catalog-api/products/{productId}", productId)
+                    .headers(headers -> {
+                        if (validatedProduct != null) {
+                            headers.setIfNoneMatch(validatedProduct.eTag());
+                        }
+                    })
                     .retrieve()
-                    .body(Product.class));
+                    .toEntity(Product.class);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && validatedProduct != null) {
+                return Optional.of(validatedProduct.product());
+            }
+
+            String eTag = response.getHeaders().getETag();
+            if (eTag != null && response.getBody() != null) {
+                this.validatedProducts.put(productId, new ValidatedProduct(eTag, response.getBody()));
+            }
+            return Optional.ofNullable(response.getBody());
         } catch (HttpClientErrorException.NotFound exception) {
+            this.validatedProducts.remove(productId);
             return Optional.empty();
         }
     }
@@ -77,6 +120,7 @@ public class RestClientProductsRestClient implements ProductsRestClient {
 
     @Override
     public void deleteProduct(int productId) {
+        this.validatedProducts.remove(productId);
         try {
             this.restClient
                     .delete()
@@ -87,4 +131,7 @@ public class RestClientProductsRestClient implements ProductsRestClient {
             throw new NoSuchElementException(exception);
         }
     }
+
+    private record ValidatedProduct(String eTag, Product product) {
+    }
 }
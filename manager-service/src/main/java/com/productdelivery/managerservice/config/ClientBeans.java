@@ -2,6 +2,8 @@ package com.productdelivery.managerservice.config;
 
 import com.productdelivery.managerservice.client.RestClientProductsRestClient;
 import com.productdelivery.managerservice.security.OAuthClientHttpRequestInterceptor;
+import com.productdelivery.oauth2client.AccessTokenClientHttpRequestInterceptor;
+import com.productdelivery.oauth2client.AccessTokenProviders;
 import de.codecentric.boot.admin.client.registration.BlockingRegistrationClient;
 import de.codecentric.boot.admin.client.registration.RegistrationClient;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,16 +13,14 @@ import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 import org.springframework.cloud.client.loadbalancer.LoadBalancerInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
-import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
-import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.client.web.DefaultOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepository;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class ClientBeans {
@@ -31,9 +31,18 @@ public class ClientBeans {
             ClientRegistrationRepository clientRegistrationRepository,
             OAuth2AuthorizedClientRepository authorizedClientRepository,
             @Value("${productdelivery.services.catalog.registration-id:keycloak}") String registrationId,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
             LoadBalancerClient loadBalancerClient
     ) {
-        return new RestClientProductsRestClient(RestClient.builder()
+        RestClient.Builder restClientBuilder = RestClient.builder();
+        if (virtualThreadsEnabled) {
+            restClientBuilder.requestFactory(new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()));
+        }
+
+        return new RestClientProductsRestClient(restClientBuilder
                 .baseUrl(catalogBaseUri)
                 .requestInterceptor(new LoadBalancerInterceptor(loadBalancerClient))
                 .requestInterceptor(
@@ -45,28 +54,9 @@ public class ClientBeans {
 
     @Bean
     @ConditionalOnProperty(name = "spring.boot.admin.client.enabled", havingValue = "true")
-    public RegistrationClient registrationClient(
-            ClientRegistrationRepository clientRegistrationRepository,
-            OAuth2AuthorizedClientService authorizedClientService
-    ) {
-        AuthorizedClientServiceOAuth2AuthorizedClientManager authorizedClientManager =
-                new AuthorizedClientServiceOAuth2AuthorizedClientManager(clientRegistrationRepository,
-                        authorizedClientService);
-
-        RestTemplate restTemplate = new RestTemplateBuilder()
-                .interceptors((request, body, execution) -> {
-                    if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
-                        OAuth2AuthorizedClient authorizeClient = authorizedClientManager.authorize(OAuth2AuthorizeRequest
-                                .withClientRegistrationId("metrics")
-                                .principal("manager-app-metrics-client")
-                                .build());
-
-                        request.getHeaders().setBearerAuth(authorizeClient.getAccessToken().getTokenValue());
-                    }
-
-                    return execution.execute(request, body);
-                })
-                .build();
-        return new BlockingRegistrationClient(restTemplate);
+    public RegistrationClient registrationClient(AccessTokenProviders accessTokenProviders) {
+        return new BlockingRegistrationClient(new RestTemplateBuilder()
+                .interceptors(new AccessTokenClientHttpRequestInterceptor(accessTokenProviders, "metrics"))
+                .build());
     }
 }
@@ -57,6 +57,40 @@ class ProductControllerIT {
                 );
     }
 
+    @Test
+    void getProduct_ProductIsNotModified_ReturnsCachedProductPage() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog/products/1")
+                .with(user("UserManager").roles("MANAGER"));
+
+        WireMock.stubFor(WireMock.get("/catalog-api/products/1")
+                .willReturn(WireMock.okJson("""
+                        {
+                            "id": 1,
+                            "title": "Товар",
+                            "details": "Описание товара"
+                        }
+                        """).withHeader(HttpHeaders.ETAG, "\"1-0\"")));
+        WireMock.stubFor(WireMock.get("/catalog-api/products/1")
+                .withHeader(HttpHeaders.IF_NONE_MATCH, WireMock.equalTo("\"1-0\""))
+                .willReturn(WireMock.status(304).withHeader(HttpHeaders.ETAG, "\"1-0\"")));
+
+        this.mockMvc.perform(requestBuilder);
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        view().name("catalog/products/product"),
+                        model().attribute("product", new Product(1, "Товар", "Описание товара"))
+                );
+
+        WireMock.verify(WireMock.getRequestedFor(WireMock.urlPathEqualTo("/catalog-api/products/1"))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, WireMock.equalTo("\"1-0\"")));
+    }
+
     @Test
     void getProduct_ProductDoesNotExist_ReturnsError404Page() throws Exception {
         // given
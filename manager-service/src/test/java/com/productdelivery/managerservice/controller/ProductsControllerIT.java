@@ -64,6 +64,45 @@ class ProductsControllerIT {
                 .withQueryParam("filter", WireMock.equalTo("товар")));
     }
 
+    @Test
+    void getProductList_CatalogIsPaginated_ReturnsAllPages() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog/products/list")
+                .with(user("j.dewar").roles("MANAGER"));
+
+        WireMock.stubFor(WireMock.get(WireMock.urlPathMatching("/catalog-api/products"))
+                .withQueryParam("after", WireMock.equalTo("0"))
+                .willReturn(WireMock.ok("""
+                        [
+                            {"id": 1, "title": "Товар №1", "details": "Описание товара №1"},
+                            {"id": 2, "title": "Товар №2", "details": "Описание товара №2"}
+                        ]""")
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withHeader("X-Continuation-Token", "2")));
+        WireMock.stubFor(WireMock.get(WireMock.urlPathMatching("/catalog-api/products"))
+                .withQueryParam("after", WireMock.equalTo("2"))
+                .willReturn(WireMock.ok("""
+                        [
+                            {"id": 3, "title": "Товар №3", "details": "Описание товара №3"}
+                        ]""").withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        view().name("catalog/products/list"),
+                        model().attribute("products", List.of(
+                                new Product(1, "Товар №1", "Описание товара №1"),
+                                new Product(2, "Товар №2", "Описание товара №2"),
+                                new Product(3, "Товар №3", "Описание товара №3")
+                        ))
+                );
+
+        WireMock.verify(2, WireMock.getRequestedFor(WireMock.urlPathMatching("/catalog-api/products")));
+    }
+
     @Test
     void getProductList_UserIsNotAuthorized_ReturnsForbidden() throws Exception {
         // given
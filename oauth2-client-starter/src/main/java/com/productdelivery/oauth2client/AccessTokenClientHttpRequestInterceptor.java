@@ -0,0 +1,30 @@
+package com.productdelivery.oauth2client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class AccessTokenClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AccessTokenProviders accessTokenProviders;
+
+    private final String registrationId;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            request.getHeaders().setBearerAuth(this.accessTokenProviders.getProvider(this.registrationId)
+                    .getAccessToken()
+                    .getTokenValue());
+        }
+
+        return execution.execute(request, body);
+    }
+}
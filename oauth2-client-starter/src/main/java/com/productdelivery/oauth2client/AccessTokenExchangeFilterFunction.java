@@ -0,0 +1,30 @@
+package com.productdelivery.oauth2client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class AccessTokenExchangeFilterFunction implements ExchangeFilterFunction {
+
+    private final AccessTokenProviders accessTokenProviders;
+
+    private final String registrationId;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return next.exchange(request);
+        }
+
+        return Mono.fromFuture(() -> this.accessTokenProviders.getAccessToken(this.registrationId))
+                .map(accessToken -> ClientRequest.from(request)
+                        .headers(headers -> headers.setBearerAuth(accessToken.getTokenValue()))
+                        .build())
+                .flatMap(next::exchange);
+    }
+}
@@ -0,0 +1,56 @@
+package com.productdelivery.oauth2client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/** Holds one caching access token provider per client registration * */
+public class AccessTokenProviders implements DisposableBean {
+
+    private final AccessTokenSource tokenSource;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Clock clock;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, CachingAccessTokenProvider> providers = new ConcurrentHashMap<>();
+
+    public AccessTokenProviders(AccessTokenSource tokenSource, MeterRegistry meterRegistry) {
+        this(tokenSource, meterRegistry, Clock.systemUTC(),
+                Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                        .name("access-token-refresh")
+                        .daemon()
+                        .factory()));
+    }
+
+    AccessTokenProviders(AccessTokenSource tokenSource, MeterRegistry meterRegistry, Clock clock,
+                         ScheduledExecutorService scheduler) {
+        this.tokenSource = tokenSource;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    public CachingAccessTokenProvider getProvider(String registrationId) {
+        return this.providers.computeIfAbsent(registrationId, id -> new CachingAccessTokenProvider(id,
+                () -> this.tokenSource.getAccessToken(id), this.meterRegistry, this.clock, this.scheduler));
+    }
+
+    public CompletableFuture<OAuth2AccessToken> getAccessToken(String registrationId) {
+        return getProvider(registrationId).getAccessTokenAsync();
+    }
+
+    @Override
+    public void destroy() {
+        this.scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,12 @@
+package com.productdelivery.oauth2client;
+
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Requests a new client-credentials access token from the authorization server * */
+@FunctionalInterface
+public interface AccessTokenSource {
+
+    CompletableFuture<OAuth2AccessToken> getAccessToken(String registrationId);
+}
@@ -0,0 +1,196 @@
+package com.productdelivery.oauth2client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/** Caches a client-credentials access token and refreshes it in the background before it expires * */
+@Slf4j
+public class CachingAccessTokenProvider {
+
+    private static final double REFRESH_AT_LIFETIME_FRACTION = 0.75;
+
+    private static final double REFRESH_JITTER_FRACTION = 0.1;
+
+    /** Tokens are dropped this long before they expire, so that a token is not rejected for clock skew on the way * */
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+
+    private static final Duration FAILURE_BACKOFF_INITIAL = Duration.ofSeconds(1);
+
+    private static final Duration FAILURE_BACKOFF_MAX = Duration.ofSeconds(30);
+
+    private final String registrationId;
+
+    private final Supplier<CompletableFuture<OAuth2AccessToken>> tokenSource;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Clock clock;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final AtomicReference<CompletableFuture<OAuth2AccessToken>> accessToken = new AtomicReference<>();
+
+    private final AtomicReference<ScheduledFuture<?>> scheduledRefresh = new AtomicReference<>();
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /** Until then a failed fetch is handed to callers as is instead of being retried against the server * */
+    private volatile Instant retryNotBefore = Instant.MIN;
+
+    CachingAccessTokenProvider(String registrationId, Supplier<CompletableFuture<OAuth2AccessToken>> tokenSource,
+                               MeterRegistry meterRegistry, Clock clock, ScheduledExecutorService scheduler) {
+        this.registrationId = registrationId;
+        this.tokenSource = tokenSource;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.scheduler = scheduler;
+        this.hits = cacheCounter("hit");
+        this.misses = cacheCounter("miss");
+        Gauge.builder("oauth2.client.token.cache.hit.ratio", this, CachingAccessTokenProvider::hitRatio)
+                .description("Share of access token lookups served without a request to the authorization server")
+                .tag("registration", registrationId)
+                .register(meterRegistry);
+    }
+
+    public OAuth2AccessToken getAccessToken() {
+        return getAccessTokenAsync().join();
+    }
+
+    public CompletableFuture<OAuth2AccessToken> getAccessTokenAsync() {
+        while (true) {
+            CompletableFuture<OAuth2AccessToken> current = this.accessToken.get();
+            if (current != null && !isExpired(current)) {
+                this.hits.increment();
+                return current.copy();
+            }
+
+            CompletableFuture<OAuth2AccessToken> next = new CompletableFuture<>();
+            if (this.accessToken.compareAndSet(current, next)) {
+                this.misses.increment();
+                fetch("initial").whenComplete((token, exception) -> {
+                    if (exception == null) {
+                        next.complete(token);
+                    } else {
+                        next.completeExceptionally(exception);
+                    }
+                });
+                return next.copy();
+            }
+        }
+    }
+
+    private boolean isExpired(CompletableFuture<OAuth2AccessToken> token) {
+        if (!token.isDone()) {
+            return false;
+        }
+        if (token.isCompletedExceptionally()) {
+            return !this.clock.instant().isBefore(this.retryNotBefore);
+        }
+
+        Instant expiresAt = token.join().getExpiresAt();
+        return expiresAt != null && !this.clock.instant().isBefore(expiresAt.minus(EXPIRY_SKEW));
+    }
+
+    private double hitRatio() {
+        double total = this.hits.count() + this.misses.count();
+        return total == 0 ? Double.NaN : this.hits.count() / total;
+    }
+
+    private void refresh() {
+        fetch("refresh").whenComplete((token, exception) -> {
+            if (exception == null) {
+                this.accessToken.set(CompletableFuture.completedFuture(token));
+            } else {
+                schedule(Duration.between(this.clock.instant(), this.retryNotBefore).toMillis());
+            }
+        });
+    }
+
+    private CompletableFuture<OAuth2AccessToken> fetch(String trigger) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        CompletableFuture<OAuth2AccessToken> token;
+        try {
+            token = this.tokenSource.get();
+        } catch (RuntimeException exception) {
+            token = CompletableFuture.failedFuture(exception);
+        }
+
+        return token.whenComplete((accessToken, exception) -> {
+            sample.stop(Timer.builder("oauth2.client.token.fetch")
+                    .description("Latency of access token requests to the authorization server")
+                    .tag("registration", this.registrationId)
+                    .tag("trigger", trigger)
+                    .tag("outcome", exception == null ? "success" : "error")
+                    .register(this.meterRegistry));
+            if (exception == null) {
+                this.consecutiveFailures.set(0);
+                scheduleRefresh(accessToken);
+            } else {
+                Duration backoff = failureBackoff(this.consecutiveFailures.incrementAndGet());
+                this.retryNotBefore = this.clock.instant().plus(backoff);
+                log.warn("Failed to obtain an access token for {}, retrying in {}", this.registrationId, backoff,
+                        exception);
+            }
+        });
+    }
+
+    private static Duration failureBackoff(int failures) {
+        Duration backoff = FAILURE_BACKOFF_INITIAL.multipliedBy(1L << Math.min(failures - 1, 5));
+        return backoff.compareTo(FAILURE_BACKOFF_MAX) < 0 ? backoff : FAILURE_BACKOFF_MAX;
+    }
+
+    private void scheduleRefresh(OAuth2AccessToken token) {
+        if (token.getIssuedAt() == null || token.getExpiresAt() == null) {
+            return;
+        }
+
+        long lifetime = Duration.between(token.getIssuedAt(), token.getExpiresAt()).toMillis();
+        double fraction = REFRESH_AT_LIFETIME_FRACTION -
+                ThreadLocalRandom.current().nextDouble(REFRESH_JITTER_FRACTION);
+        Instant refreshAt = token.getIssuedAt().plusMillis((long) (lifetime * fraction));
+        schedule(Math.max(0, Duration.between(this.clock.instant(), refreshAt).toMillis()));
+    }
+
+    private void schedule(long delayMillis) {
+        ScheduledFuture<?> next;
+        try {
+            next = this.scheduler.schedule(this::refresh, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException exception) {
+            return;
+        }
+
+        ScheduledFuture<?> previous = this.scheduledRefresh.getAndSet(next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private Counter cacheCounter(String result) {
+        return Counter.builder("oauth2.client.token.cache")
+                .description("Access token lookups by cache result")
+                .tag("registration", this.registrationId)
+                .tag("result", result)
+                .register(this.meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.productdelivery.oauth2client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.oauth2.client.reactive.ReactiveOAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+@AutoConfiguration(after = {OAuth2ClientAutoConfiguration.class, ReactiveOAuth2ClientAutoConfiguration.class})
+@EnableConfigurationProperties(ClientCredentialsProperties.class)
+public class ClientCredentialsAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnBean(ClientRegistrationRepository.class)
+    static class ServletClientCredentialsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RestClientCredentialsTokenSource accessTokenSource(
+                ClientRegistrationRepository clientRegistrationRepository,
+                ClientCredentialsProperties properties
+        ) {
+            return new RestClientCredentialsTokenSource(clientRegistrationRepository, properties);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AccessTokenProviders accessTokenProviders(RestClientCredentialsTokenSource accessTokenSource,
+                                                         MeterRegistry meterRegistry) {
+            return new AccessTokenProviders(accessTokenSource, meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass({WebClient.class, HttpClient.class})
+    @ConditionalOnBean(ReactiveClientRegistrationRepository.class)
+    static class ReactiveClientCredentialsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public WebClientCredentialsTokenSource accessTokenSource(
+                ReactiveClientRegistrationRepository clientRegistrationRepository,
+                ClientCredentialsProperties properties
+        ) {
+            return new WebClientCredentialsTokenSource(clientRegistrationRepository, properties);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AccessTokenProviders accessTokenProviders(WebClientCredentialsTokenSource accessTokenSource,
+                                                         MeterRegistry meterRegistry) {
+            return new AccessTokenProviders(accessTokenSource, meterRegistry);
+        }
+    }
+}
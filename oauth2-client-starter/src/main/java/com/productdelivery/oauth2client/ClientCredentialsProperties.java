@@ -0,0 +1,15 @@
+package com.productdelivery.oauth2client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("productdelivery.oauth2.client")
+public record ClientCredentialsProperties(
+        @DefaultValue("discovery") String discoveryRegistrationId,
+        @DefaultValue("10") int maxConnections,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("5s") Duration readTimeout) {
+}
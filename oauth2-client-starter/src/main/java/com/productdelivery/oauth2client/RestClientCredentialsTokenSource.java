@@ -0,0 +1,74 @@
+package com.productdelivery.oauth2client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultClientCredentialsTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/** Requests tokens through a pooled Apache HttpClient for servlet applications * */
+public class RestClientCredentialsTokenSource implements AccessTokenSource, DisposableBean {
+
+    private final ClientRegistrationRepository clientRegistrationRepository;
+
+    private final CloseableHttpClient httpClient;
+
+    private final DefaultClientCredentialsTokenResponseClient tokenResponseClient =
+            new DefaultClientCredentialsTokenResponseClient();
+
+    public RestClientCredentialsTokenSource(ClientRegistrationRepository clientRegistrationRepository,
+                                            ClientCredentialsProperties properties) {
+        this.clientRegistrationRepository = clientRegistrationRepository;
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(properties.maxConnections())
+                        .setMaxConnPerRoute(properties.maxConnections())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofMilliseconds(properties.connectTimeout().toMillis()))
+                                .setSocketTimeout(Timeout.ofMilliseconds(properties.readTimeout().toMillis()))
+                                .build())
+                        .build())
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.maxIdleTime().toMillis()))
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(List.of(new FormHttpMessageConverter(),
+                new OAuth2AccessTokenResponseHttpMessageConverter()));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(this.httpClient));
+        this.tokenResponseClient.setRestOperations(restTemplate);
+    }
+
+    @Override
+    public CompletableFuture<OAuth2AccessToken> getAccessToken(String registrationId) {
+        ClientRegistration clientRegistration = this.clientRegistrationRepository.findByRegistrationId(registrationId);
+        if (clientRegistration == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Unknown client registration %s".formatted(registrationId)));
+        }
+
+        return CompletableFuture.completedFuture(this.tokenResponseClient
+                .getTokenResponse(new OAuth2ClientCredentialsGrantRequest(clientRegistration))
+                .getAccessToken());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        this.httpClient.close();
+    }
+}
@@ -0,0 +1,57 @@
+package com.productdelivery.oauth2client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.WebClientReactiveClientCredentialsTokenResponseClient;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Requests tokens without blocking through a dedicated Reactor Netty connection pool * */
+public class WebClientCredentialsTokenSource implements AccessTokenSource, DisposableBean {
+
+    private final ReactiveClientRegistrationRepository clientRegistrationRepository;
+
+    private final ConnectionProvider connectionProvider;
+
+    private final WebClientReactiveClientCredentialsTokenResponseClient tokenResponseClient =
+            new WebClientReactiveClientCredentialsTokenResponseClient();
+
+    public WebClientCredentialsTokenSource(ReactiveClientRegistrationRepository clientRegistrationRepository,
+                                           ClientCredentialsProperties properties) {
+        this.clientRegistrationRepository = clientRegistrationRepository;
+        this.connectionProvider = ConnectionProvider.builder("oauth2-token-endpoint")
+                .maxConnections(properties.maxConnections())
+                .maxIdleTime(properties.maxIdleTime())
+                .build();
+        this.tokenResponseClient.setWebClient(WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(this.connectionProvider)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                        .responseTimeout(properties.readTimeout())))
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<OAuth2AccessToken> getAccessToken(String registrationId) {
+        return this.clientRegistrationRepository.findByRegistrationId(registrationId)
+                .switchIfEmpty(Mono.error(() ->
+                        new IllegalArgumentException("Unknown client registration %s".formatted(registrationId))))
+                .flatMap(clientRegistration -> this.tokenResponseClient
+                        .getTokenResponse(new OAuth2ClientCredentialsGrantRequest(clientRegistration)))
+                .map(OAuth2AccessTokenResponse::getAccessToken)
+                .toFuture();
+    }
+
+    @Override
+    public void destroy() {
+        this.connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,46 @@
+package com.productdelivery.oauth2client.discovery;
+
+import com.productdelivery.oauth2client.AccessTokenProviders;
+import com.productdelivery.oauth2client.ClientCredentialsAutoConfiguration;
+import com.productdelivery.oauth2client.ClientCredentialsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.netflix.eureka.RestTemplateTimeoutProperties;
+import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+@AutoConfiguration(after = ClientCredentialsAutoConfiguration.class,
+        beforeName = "org.springframework.cloud.netflix.eureka.EurekaClientAutoConfiguration")
+@ConditionalOnClass(EurekaClientHttpRequestFactorySupplier.class)
+@ConditionalOnProperty(name = "eureka.client.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnBean(AccessTokenProviders.class)
+@EnableConfigurationProperties({RestTemplateTimeoutProperties.class, DiscoveryHttpClientProperties.class})
+public class DiscoveryClientCredentialsAutoConfiguration {
+
+    @Bean
+    public DiscoveryClientHttpRequestFactorySupplier defaultEurekaClientHttpRequestFactorySupplier(
+            RestTemplateTimeoutProperties restTemplateTimeoutProperties,
+            AccessTokenProviders accessTokenProviders,
+            ClientCredentialsProperties properties,
+            DiscoveryHttpClientProperties httpClientProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new DiscoveryClientHttpRequestFactorySupplier(restTemplateTimeoutProperties, List.of(
+                (request, entity, context) -> {
+                    if (!request.containsHeader(HttpHeaders.AUTHORIZATION)) {
+                        request.setHeader(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(accessTokenProviders
+                                .getProvider(properties.discoveryRegistrationId())
+                                .getAccessToken()
+                                .getTokenValue()));
+                    }
+                }
+        ), httpClientProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2013-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.productdelivery.oauth2client.discovery;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.netflix.eureka.RestTemplateTimeoutProperties;
+import org.springframework.cloud.netflix.eureka.http.DefaultEurekaClientHttpRequestFactorySupplier;
+import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Supplier for the {@link ClientHttpRequestFactory} to be used by Eureka client that uses
+ * {@link HttpClients}. Based on {@link DefaultEurekaClientHttpRequestFactorySupplier}, extended
+ * with request interceptors and one shared, configurable connection pool per SSL setup.
+ *
+ * @author Marcin Grzejszczak
+ * @author Olga Maciaszek-Sharma
+ * @author Jiwon Jeon
+ * @since 3.0.0
+ */
+public class DiscoveryClientHttpRequestFactorySupplier
+		implements EurekaClientHttpRequestFactorySupplier, DisposableBean {
+
+	private final RestTemplateTimeoutProperties restTemplateTimeoutProperties;
+
+	private final List<HttpRequestInterceptor> requestInterceptors;
+
+	private final DiscoveryHttpClientProperties httpClientProperties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<ClientKey, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+
+	public DiscoveryClientHttpRequestFactorySupplier(RestTemplateTimeoutProperties restTemplateTimeoutProperties,
+			List<HttpRequestInterceptor> requestInterceptors, DiscoveryHttpClientProperties httpClientProperties,
+			MeterRegistry meterRegistry) {
+		this.restTemplateTimeoutProperties = restTemplateTimeoutProperties;
+		this.requestInterceptors = Collections.unmodifiableList(requestInterceptors);
+		this.httpClientProperties = httpClientProperties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public ClientHttpRequestFactory get(SSLContext sslContext, @Nullable HostnameVerifier hostnameVerifier) {
+		CloseableHttpClient httpClient = this.httpClients.computeIfAbsent(new ClientKey(sslContext, hostnameVerifier),
+				key -> buildHttpClient(key.sslContext(), key.hostnameVerifier()));
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
+		requestFactory.setHttpClient(httpClient);
+		return requestFactory;
+	}
+
+	private CloseableHttpClient buildHttpClient(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+		PoolingHttpClientConnectionManager connectionManager = buildConnectionManager(sslContext, hostnameVerifier,
+				restTemplateTimeoutProperties);
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager,
+				this.httpClients.isEmpty() ? "eureka" : "eureka-" + this.httpClients.size())
+				.bindTo(this.meterRegistry);
+
+		TimeValue maxKeepAlive = TimeValue.ofMilliseconds(httpClientProperties.keepAlive().toMillis());
+		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+				.setConnectionManager(connectionManager)
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.ofMilliseconds(httpClientProperties.idleTimeout().toMillis()))
+				.setKeepAliveStrategy((response, context) -> {
+					TimeValue keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+							context);
+					return keepAlive.compareTo(maxKeepAlive) < 0 ? keepAlive : maxKeepAlive;
+				});
+		if (restTemplateTimeoutProperties != null) {
+			httpClientBuilder.setDefaultRequestConfig(buildRequestConfig());
+		}
+
+		this.requestInterceptors.forEach(httpClientBuilder::addRequestInterceptorLast);
+
+		return httpClientBuilder.build();
+	}
+
+	private PoolingHttpClientConnectionManager buildConnectionManager(SSLContext sslContext,
+			HostnameVerifier hostnameVerifier, RestTemplateTimeoutProperties restTemplateTimeoutProperties) {
+		ConnectionConfig.Builder connectionConfigBuilder = ConnectionConfig.custom()
+				.setTimeToLive(TimeValue.ofMilliseconds(httpClientProperties.timeToLive().toMillis()))
+				.setValidateAfterInactivity(
+						TimeValue.ofMilliseconds(httpClientProperties.validateAfterInactivity().toMillis()));
+		if (restTemplateTimeoutProperties != null) {
+			connectionConfigBuilder.setConnectTimeout(
+					Timeout.of(restTemplateTimeoutProperties.getConnectTimeout(), TimeUnit.MILLISECONDS));
+		}
+		PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder
+				.create()
+				.setMaxConnTotal(httpClientProperties.maxConnections())
+				.setMaxConnPerRoute(httpClientProperties.maxConnectionsPerRoute())
+				.setDefaultConnectionConfig(connectionConfigBuilder.build());
+		SSLConnectionSocketFactoryBuilder sslConnectionSocketFactoryBuilder = SSLConnectionSocketFactoryBuilder
+				.create();
+		if (sslContext != null) {
+			sslConnectionSocketFactoryBuilder.setSslContext(sslContext);
+		}
+		if (hostnameVerifier != null) {
+			sslConnectionSocketFactoryBuilder.setHostnameVerifier(hostnameVerifier);
+		}
+		connectionManagerBuilder.setSSLSocketFactory(sslConnectionSocketFactoryBuilder.build());
+		if (restTemplateTimeoutProperties != null) {
+			connectionManagerBuilder.setDefaultSocketConfig(SocketConfig.custom()
+					.setSoTimeout(Timeout.of(restTemplateTimeoutProperties.getSocketTimeout(), TimeUnit.MILLISECONDS))
+					.build());
+		}
+		return connectionManagerBuilder.build();
+	}
+
+	private RequestConfig buildRequestConfig() {
+		return RequestConfig.custom()
+				.setConnectionRequestTimeout(
+						Timeout.of(restTemplateTimeoutProperties.getConnectRequestTimeout(), TimeUnit.MILLISECONDS))
+				.build();
+	}
+
+	@Override
+	public void destroy() {
+		this.httpClients.values().forEach(httpClient -> httpClient.close(CloseMode.GRACEFUL));
+		this.httpClients.clear();
+	}
+
+	private record ClientKey(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+	}
+
+}
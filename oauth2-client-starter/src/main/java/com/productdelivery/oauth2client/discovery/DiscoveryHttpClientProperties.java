@@ -0,0 +1,16 @@
+package com.productdelivery.oauth2client.discovery;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("productdelivery.discovery.http-client")
+public record DiscoveryHttpClientProperties(
+        @DefaultValue("20") int maxConnections,
+        @DefaultValue("10") int maxConnectionsPerRoute,
+        @DefaultValue("5m") Duration timeToLive,
+        @DefaultValue("30s") Duration idleTimeout,
+        @DefaultValue("1m") Duration keepAlive,
+        @DefaultValue("2s") Duration validateAfterInactivity) {
+}
@@ -0,0 +1,247 @@
+package com.productdelivery.oauth2client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAccessTokenProviderTest {
+
+    static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    @Mock
+    Clock clock;
+
+    @Mock
+    ScheduledExecutorService scheduler;
+
+    @Mock
+    ScheduledFuture<?> scheduledFuture;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(this.scheduledFuture).when(this.scheduler).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void getAccessToken_TokenIsCached_FetchesTokenOnce() {
+        // given
+        OAuth2AccessToken token = token("первый", NOW.plusSeconds(300));
+        AtomicInteger fetches = new AtomicInteger();
+        CachingAccessTokenProvider provider = provider(() -> {
+            fetches.incrementAndGet();
+            return CompletableFuture.completedFuture(token);
+        });
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        OAuth2AccessToken first = provider.getAccessToken();
+        OAuth2AccessToken second = provider.getAccessToken();
+
+        // then
+        assertSame(token, first);
+        assertSame(token, second);
+        assertEquals(1, fetches.get());
+        assertEquals(1, this.meterRegistry.get("oauth2.client.token.fetch")
+                .tag("registration", "discovery")
+                .tag("trigger", "initial")
+                .tag("outcome", "success")
+                .timer().count());
+        assertEquals(1, this.meterRegistry.get("oauth2.client.token.cache")
+                .tag("registration", "discovery")
+                .tag("result", "hit")
+                .counter().count());
+        assertEquals(0.5, this.meterRegistry.get("oauth2.client.token.cache.hit.ratio")
+                .tag("registration", "discovery")
+                .gauge().value());
+    }
+
+    @Test
+    void getAccessToken_ConcurrentCallers_SharesSingleFetch() throws Exception {
+        // given
+        OAuth2AccessToken token = token("общий", NOW.plusSeconds(300));
+        CompletableFuture<OAuth2AccessToken> pending = new CompletableFuture<>();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        AtomicInteger fetches = new AtomicInteger();
+        CachingAccessTokenProvider provider = provider(() -> {
+            fetches.incrementAndGet();
+            fetchStarted.countDown();
+            return pending;
+        });
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        List<CompletableFuture<OAuth2AccessToken>> callers = List.of(
+                CompletableFuture.supplyAsync(provider::getAccessToken),
+                CompletableFuture.supplyAsync(provider::getAccessToken),
+                CompletableFuture.supplyAsync(provider::getAccessToken));
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+        pending.complete(token);
+
+        // then
+        for (CompletableFuture<OAuth2AccessToken> caller : callers) {
+            assertSame(token, caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void getAccessToken_TokenIsExpired_FetchesNewToken() {
+        // given
+        OAuth2AccessToken expired = token("старый", NOW.plusSeconds(60));
+        OAuth2AccessToken fresh = token("новый", NOW.plusSeconds(360));
+        List<OAuth2AccessToken> tokens = List.of(expired, fresh);
+        AtomicInteger fetches = new AtomicInteger();
+        CachingAccessTokenProvider provider = provider(() ->
+                CompletableFuture.completedFuture(tokens.get(fetches.getAndIncrement())));
+        doReturn(NOW, NOW.plusSeconds(61)).when(this.clock).instant();
+
+        // when
+        provider.getAccessToken();
+        OAuth2AccessToken result = provider.getAccessToken();
+
+        // then
+        assertSame(fresh, result);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void getAccessToken_TokenExpiresWithinClockSkew_FetchesNewToken() {
+        // given
+        OAuth2AccessToken expiring = token("старый", NOW.plusSeconds(60));
+        OAuth2AccessToken fresh = token("новый", NOW.plusSeconds(360));
+        List<OAuth2AccessToken> tokens = List.of(expiring, fresh);
+        AtomicInteger fetches = new AtomicInteger();
+        CachingAccessTokenProvider provider = provider(() ->
+                CompletableFuture.completedFuture(tokens.get(fetches.getAndIncrement())));
+        doReturn(NOW, NOW.plusSeconds(29), NOW.plusSeconds(31)).when(this.clock).instant();
+
+        // when
+        provider.getAccessToken();
+        OAuth2AccessToken beforeSkew = provider.getAccessToken();
+        OAuth2AccessToken withinSkew = provider.getAccessToken();
+
+        // then
+        assertSame(expiring, beforeSkew);
+        assertSame(fresh, withinSkew);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void getAccessToken_FetchKeepsFailing_BacksOffBoundedly() {
+        // given
+        AtomicReference<Instant> now = new AtomicReference<>(NOW);
+        AtomicInteger fetches = new AtomicInteger();
+        CachingAccessTokenProvider provider = provider(() -> {
+            fetches.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("Сервер недоступен"));
+        });
+        doAnswer(invocation -> now.get()).when(this.clock).instant();
+
+        // when
+        List<Integer> fetchesAfterCall = new ArrayList<>();
+        for (long elapsedSeconds : new long[]{0, 1, 2, 3, 6, 7, 15, 31, 60, 61, 90, 91}) {
+            now.set(NOW.plusSeconds(elapsedSeconds));
+            assertThrows(CompletionException.class, provider::getAccessToken);
+            fetchesAfterCall.add(fetches.get());
+        }
+
+        // then
+        assertEquals(List.of(1, 2, 2, 3, 3, 4, 5, 6, 6, 7, 7, 8), fetchesAfterCall);
+    }
+
+    @Test
+    void refresh_TokenIsRefreshedInBackground_ReplacesCachedToken() {
+        // given
+        OAuth2AccessToken initial = token("первый", NOW.plusSeconds(100));
+        OAuth2AccessToken refreshed = token("второй", NOW.plusSeconds(200));
+        List<OAuth2AccessToken> tokens = List.of(initial, refreshed);
+        AtomicInteger fetches = new AtomicInteger();
+        CachingAccessTokenProvider provider = provider(() ->
+                CompletableFuture.completedFuture(tokens.get(fetches.getAndIncrement())));
+        doReturn(NOW).when(this.clock).instant();
+        provider.getAccessToken();
+
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(this.scheduler).schedule(refresh.capture(), delay.capture(), eq(TimeUnit.MILLISECONDS));
+
+        // when
+        refresh.getValue().run();
+
+        // then
+        assertTrue(delay.getValue() >= 65_000 && delay.getValue() <= 75_000);
+        assertSame(refreshed, provider.getAccessToken());
+        assertEquals(2, fetches.get());
+        assertEquals(1, this.meterRegistry.get("oauth2.client.token.fetch")
+                .tag("trigger", "refresh")
+                .timer().count());
+    }
+
+    @Test
+    void refresh_RefreshFails_KeepsCachedTokenAndRetriesAfterBackoff() {
+        // given
+        OAuth2AccessToken initial = token("первый", NOW.plusSeconds(100));
+        AtomicInteger fetches = new AtomicInteger();
+        CachingAccessTokenProvider provider = provider(() -> fetches.getAndIncrement() == 0
+                ? CompletableFuture.completedFuture(initial)
+                : CompletableFuture.failedFuture(new IllegalStateException("Сервер недоступен")));
+        doReturn(NOW).when(this.clock).instant();
+        provider.getAccessToken();
+
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler).schedule(refresh.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // when
+        refresh.getValue().run();
+
+        // then
+        verify(this.scheduler).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(this.scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+        assertSame(initial, provider.getAccessToken());
+        assertEquals(2, fetches.get());
+    }
+
+    CachingAccessTokenProvider provider(Supplier<CompletableFuture<OAuth2AccessToken>> tokenSource) {
+        return new CachingAccessTokenProvider("discovery", tokenSource, this.meterRegistry,
+                this.clock, this.scheduler);
+    }
+
+    static OAuth2AccessToken token(String value, Instant expiresAt) {
+        return new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, value, NOW, expiresAt);
+    }
+}
@@ -0,0 +1,79 @@
+package com.productdelivery.oauth2client.discovery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.RestTemplateTimeoutProperties;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import javax.net.ssl.SSLContext;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DiscoveryClientHttpRequestFactorySupplierTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    DiscoveryClientHttpRequestFactorySupplier supplier = new DiscoveryClientHttpRequestFactorySupplier(
+            new RestTemplateTimeoutProperties(), List.of(),
+            new DiscoveryHttpClientProperties(20, 10, Duration.ofMinutes(5), Duration.ofSeconds(30),
+                    Duration.ofMinutes(1), Duration.ofSeconds(2)),
+            this.meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        this.supplier.destroy();
+    }
+
+    @Test
+    void get_CalledRepeatedly_ReusesPooledHttpClient() {
+        // when
+        var first = (HttpComponentsClientHttpRequestFactory) this.supplier.get(null, null);
+        var second = (HttpComponentsClientHttpRequestFactory) this.supplier.get(null, null);
+
+        // then
+        assertNotSame(first, second);
+        assertSame(first.getHttpClient(), second.getHttpClient());
+    }
+
+    @Test
+    void get_SslContextDiffers_BuildsSeparatePooledHttpClient() throws Exception {
+        // given
+        var sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, null, null);
+
+        // when
+        var first = (HttpComponentsClientHttpRequestFactory) this.supplier.get(null, null);
+        var second = (HttpComponentsClientHttpRequestFactory) this.supplier.get(sslContext, null);
+
+        // then
+        assertNotSame(first.getHttpClient(), second.getHttpClient());
+        assertNotNull(this.meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "eureka-1")
+                .gauge());
+    }
+
+    @Test
+    void get_RegistersPoolMetricsOnce() {
+        // when
+        this.supplier.get(null, null);
+        this.supplier.get(null, null);
+
+        // then
+        var maxConnections = this.meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "eureka")
+                .gauge();
+        assertNotNull(maxConnections);
+        assertEquals(20, maxConnections.value());
+        assertEquals(1, this.meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauges().size());
+        assertNotNull(this.meterRegistry.find("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "eureka")
+                .tag("state", "available")
+                .gauge());
+    }
+}
@@ -0,0 +1,26 @@
+package com.productdelivery.oauth2resourceserver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+@RequiredArgsConstructor
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final VerifiedJwtCache cache;
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt jwt = this.cache.get(token);
+        if (jwt != null) {
+            return jwt;
+        }
+
+        jwt = this.delegate.decode(token);
+        this.cache.put(token, jwt);
+        return jwt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.productdelivery.oauth2resourceserver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+
+    private final VerifiedJwtCache cache;
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        return Mono.defer(() -> {
+            Jwt jwt = this.cache.get(token);
+            if (jwt != null) {
+                return Mono.just(jwt);
+            }
+
+            return this.delegate.decode(token)
+                    .doOnNext(decoded -> this.cache.put(token, decoded));
+        });
+    }
+}
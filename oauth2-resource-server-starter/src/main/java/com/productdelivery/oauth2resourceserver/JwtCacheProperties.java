@@ -0,0 +1,17 @@
+package com.productdelivery.oauth2resourceserver;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("productdelivery.oauth2.resource-server")
+public record JwtCacheProperties(
+        @DefaultValue("10000") int cacheMaximumSize,
+        @DefaultValue("10m") Duration cacheMaxTtl,
+        @DefaultValue("5m") Duration jwksRefreshInterval,
+        @DefaultValue("30s") Duration jwksMinRefreshInterval,
+        @DefaultValue("10s") Duration jwksRetryDelay,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("5s") Duration readTimeout) {
+}
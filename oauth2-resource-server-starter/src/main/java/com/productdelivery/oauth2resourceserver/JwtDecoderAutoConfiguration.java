@@ -0,0 +1,117 @@
+package com.productdelivery.oauth2resourceserver;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.reactive.ReactiveOAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@AutoConfiguration(before = {OAuth2ResourceServerAutoConfiguration.class,
+        ReactiveOAuth2ResourceServerAutoConfiguration.class})
+@ConditionalOnClass(JwtDecoder.class)
+@ConditionalOnProperty(prefix = "spring.security.oauth2.resourceserver.jwt", name = "issuer-uri")
+@EnableConfigurationProperties({JwtCacheProperties.class, OAuth2ResourceServerProperties.class})
+public class JwtDecoderAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RefreshingJwkSource jwkSource(OAuth2ResourceServerProperties resourceServerProperties,
+                                         JwtCacheProperties properties, MeterRegistry meterRegistry) {
+        OAuth2ResourceServerProperties.Jwt jwt = resourceServerProperties.getJwt();
+        return new RefreshingJwkSource(jwt.getIssuerUri(), jwt.getJwkSetUri(), properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VerifiedJwtCache verifiedJwtCache(JwtCacheProperties properties, MeterRegistry meterRegistry) {
+        return new VerifiedJwtCache(properties, meterRegistry);
+    }
+
+    static DefaultJWTProcessor<SecurityContext> jwtProcessor(RefreshingJwkSource jwkSource,
+                                                             OAuth2ResourceServerProperties.Jwt properties) {
+        Set<JWSAlgorithm> algorithms = properties.getJwsAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource));
+        // claims are checked by the Spring Security validators below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return jwtProcessor;
+    }
+
+    static OAuth2TokenValidator<Jwt> jwtValidator(OAuth2ResourceServerProperties.Jwt properties) {
+        List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
+        validators.add(JwtValidators.createDefaultWithIssuer(properties.getIssuerUri()));
+        List<String> audiences = properties.getAudiences();
+        if (!audiences.isEmpty()) {
+            validators.add(new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+                    aud -> aud != null && !Collections.disjoint(aud, audiences)));
+        }
+        return new DelegatingOAuth2TokenValidator<>(validators);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletJwtDecoderConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JwtDecoder jwtDecoder(RefreshingJwkSource jwkSource, VerifiedJwtCache verifiedJwtCache,
+                                     OAuth2ResourceServerProperties resourceServerProperties) {
+            NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(
+                    jwtProcessor(jwkSource, resourceServerProperties.getJwt()));
+            jwtDecoder.setJwtValidator(jwtValidator(resourceServerProperties.getJwt()));
+            return new CachingJwtDecoder(jwtDecoder, verifiedJwtCache);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(Mono.class)
+    static class ReactiveJwtDecoderConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveJwtDecoder jwtDecoder(RefreshingJwkSource jwkSource, VerifiedJwtCache verifiedJwtCache,
+                                             OAuth2ResourceServerProperties resourceServerProperties) {
+            DefaultJWTProcessor<SecurityContext> jwtProcessor =
+                    jwtProcessor(jwkSource, resourceServerProperties.getJwt());
+            // an unknown key id makes the JWK source fetch the key set, keep that off the event loop
+            NimbusReactiveJwtDecoder jwtDecoder = new NimbusReactiveJwtDecoder(jwt ->
+                    Mono.fromCallable(() -> jwtProcessor.process(jwt, null))
+                            .subscribeOn(Schedulers.boundedElastic()));
+            jwtDecoder.setJwtValidator(jwtValidator(resourceServerProperties.getJwt()));
+            return new CachingReactiveJwtDecoder(jwtDecoder, verifiedJwtCache);
+        }
+    }
+}
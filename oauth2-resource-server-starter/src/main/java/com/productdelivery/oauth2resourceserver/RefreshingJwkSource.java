@@ -0,0 +1,167 @@
+package com.productdelivery.oauth2resourceserver;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import com.nimbusds.jose.util.ResourceRetriever;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/** Keeps the JWK set in memory: prefetched at startup, refreshed in the background and on unknown keys * */
+@Slf4j
+public class RefreshingJwkSource implements JWKSource<SecurityContext>, InitializingBean, DisposableBean {
+
+    private static final int JWKS_SIZE_LIMIT = 512 * 1024;
+
+    private final String issuerUri;
+
+    private final ResourceRetriever resourceRetriever;
+
+    private final JwtCacheProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Clock clock;
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile String jwkSetUri;
+
+    private volatile JWKSet jwkSet;
+
+    private volatile Instant loadedAt = Instant.MIN;
+
+    public RefreshingJwkSource(String issuerUri, String jwkSetUri, JwtCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this(issuerUri, jwkSetUri, new DefaultResourceRetriever((int) properties.connectTimeout().toMillis(),
+                        (int) properties.readTimeout().toMillis(), JWKS_SIZE_LIMIT), properties, meterRegistry,
+                Clock.systemUTC(), Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                        .name("jwks-refresh")
+                        .daemon()
+                        .factory()));
+    }
+
+    RefreshingJwkSource(String issuerUri, String jwkSetUri, ResourceRetriever resourceRetriever,
+                        JwtCacheProperties properties, MeterRegistry meterRegistry, Clock clock,
+                        ScheduledExecutorService scheduler) {
+        this.issuerUri = issuerUri;
+        this.jwkSetUri = jwkSetUri;
+        this.resourceRetriever = resourceRetriever;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        schedule(Duration.ZERO);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet current = this.jwkSet;
+        if (current != null) {
+            List<JWK> keys = jwkSelector.select(current);
+            if (!keys.isEmpty()) {
+                return keys;
+            }
+        }
+
+        return jwkSelector.select(reload(current));
+    }
+
+    private synchronized JWKSet reload(JWKSet seen) throws KeySourceException {
+        if (this.jwkSet != seen || (seen != null && this.clock.instant()
+                .isBefore(this.loadedAt.plus(this.properties.jwksMinRefreshInterval())))) {
+            return this.jwkSet != null ? this.jwkSet : new JWKSet();
+        }
+
+        return load("on-demand");
+    }
+
+    private synchronized JWKSet load(String trigger) throws KeySourceException {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "error";
+        try {
+            JWKSet loaded = JWKSet.parse(this.resourceRetriever.retrieveResource(toUrl(jwkSetUri()))
+                    .getContent());
+            this.jwkSet = loaded;
+            this.loadedAt = this.clock.instant();
+            outcome = "success";
+            return loaded;
+        } catch (IOException | ParseException exception) {
+            throw new KeySourceException("Failed to load the JWK set: " + exception.getMessage(), exception);
+        } finally {
+            sample.stop(Timer.builder("jwt.jwks.refresh")
+                    .description("Latency of JWK set requests to the authorization server")
+                    .tag("trigger", trigger)
+                    .tag("outcome", outcome)
+                    .register(this.meterRegistry));
+        }
+    }
+
+    private String jwkSetUri() throws IOException, ParseException {
+        if (this.jwkSetUri == null) {
+            String configurationUri = this.issuerUri.endsWith("/")
+                    ? this.issuerUri + ".well-known/openid-configuration"
+                    : this.issuerUri + "/.well-known/openid-configuration";
+            Object uri = JSONObjectUtils.parse(this.resourceRetriever.retrieveResource(toUrl(configurationUri))
+                    .getContent()).get("jwks_uri");
+            if (uri == null) {
+                throw new ParseException("The issuer %s does not publish jwks_uri".formatted(this.issuerUri), 0);
+            }
+            this.jwkSetUri = uri.toString();
+        }
+
+        return this.jwkSetUri;
+    }
+
+    private void refresh() {
+        try {
+            load("scheduled");
+            schedule(this.properties.jwksRefreshInterval());
+        } catch (KeySourceException exception) {
+            log.warn("Failed to refresh the JWK set of {}", this.issuerUri, exception);
+            schedule(this.properties.jwksRetryDelay());
+        }
+    }
+
+    private void schedule(Duration delay) {
+        try {
+            this.scheduler.schedule(this::refresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // shutting down
+        }
+    }
+
+    private static URL toUrl(String uri) throws IOException {
+        return URI.create(uri).toURL();
+    }
+
+    @Override
+    public void destroy() {
+        this.scheduler.shutdownNow();
+    }
+}
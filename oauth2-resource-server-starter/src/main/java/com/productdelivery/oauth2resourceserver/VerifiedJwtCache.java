@@ -0,0 +1,94 @@
+package com.productdelivery.oauth2resourceserver;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/** Bounded cache of already verified tokens keyed by the SHA-256 hash of the token, honouring exp * */
+public class VerifiedJwtCache {
+
+    private final Clock clock;
+
+    private final Duration maxTtl;
+
+    private final Cache<String, Jwt> cache;
+
+    public VerifiedJwtCache(JwtCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties.cacheMaximumSize(), properties.cacheMaxTtl(), meterRegistry, Clock.systemUTC());
+    }
+
+    VerifiedJwtCache(long maximumSize, Duration maxTtl, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                        return timeToLive(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return timeToLive(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "jwt");
+    }
+
+    public Jwt get(String token) {
+        Jwt jwt = this.cache.getIfPresent(key(token));
+        if (jwt == null || isExpired(jwt)) {
+            return null;
+        }
+
+        return jwt;
+    }
+
+    public void put(String token, Jwt jwt) {
+        if (!isExpired(jwt)) {
+            this.cache.put(key(token), jwt);
+        }
+    }
+
+    private boolean isExpired(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        return expiresAt == null || !this.clock.instant().isBefore(expiresAt);
+    }
+
+    private Duration timeToLive(Jwt jwt) {
+        Duration untilExpiry = Duration.between(this.clock.instant(), jwt.getExpiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        return untilExpiry.compareTo(this.maxTtl) < 0 ? untilExpiry : this.maxTtl;
+    }
+
+    static String key(String token) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
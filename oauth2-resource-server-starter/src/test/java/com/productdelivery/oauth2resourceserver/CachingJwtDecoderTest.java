@@ -0,0 +1,105 @@
+package com.productdelivery.oauth2resourceserver;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    @Mock
+    JwtDecoder delegate;
+
+    @Mock
+    Clock clock;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        this.decoder = new CachingJwtDecoder(this.delegate,
+                new VerifiedJwtCache(100, Duration.ofMinutes(10), this.meterRegistry, this.clock));
+    }
+
+    @Test
+    void decode_TokenIsCached_VerifiesTokenOnce() {
+        // given
+        Jwt jwt = jwt("пользователь", NOW.plusSeconds(300));
+        doReturn(jwt).when(this.delegate).decode("token");
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        Jwt first = this.decoder.decode("token");
+        Jwt second = this.decoder.decode("token");
+
+        // then
+        assertSame(jwt, first);
+        assertSame(jwt, second);
+        verify(this.delegate).decode("token");
+        assertEquals(1, this.meterRegistry.get("cache.gets")
+                .tag("cache", "jwt")
+                .tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void decode_CachedTokenIsExpired_VerifiesTokenAgain() {
+        // given
+        Jwt jwt = jwt("пользователь", NOW.plusSeconds(60));
+        doReturn(jwt).when(this.delegate).decode("token");
+        doReturn(NOW, NOW, NOW.plusSeconds(61)).when(this.clock).instant();
+
+        // when
+        this.decoder.decode("token");
+        this.decoder.decode("token");
+
+        // then
+        verify(this.delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void decode_TokensDiffer_VerifiesEachToken() {
+        // given
+        Jwt first = jwt("первый", NOW.plusSeconds(300));
+        Jwt second = jwt("второй", NOW.plusSeconds(300));
+        doReturn(first).when(this.delegate).decode("first-token");
+        doReturn(second).when(this.delegate).decode("second-token");
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        Jwt firstResult = this.decoder.decode("first-token");
+        Jwt secondResult = this.decoder.decode("second-token");
+
+        // then
+        assertSame(first, firstResult);
+        assertSame(second, secondResult);
+    }
+
+    static Jwt jwt(String subject, Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject(subject)
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
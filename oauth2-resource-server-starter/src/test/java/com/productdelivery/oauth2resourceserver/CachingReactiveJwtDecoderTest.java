@@ -0,0 +1,93 @@
+package com.productdelivery.oauth2resourceserver;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static com.productdelivery.oauth2resourceserver.CachingJwtDecoderTest.NOW;
+import static com.productdelivery.oauth2resourceserver.CachingJwtDecoderTest.jwt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachingReactiveJwtDecoderTest {
+
+    @Mock
+    ReactiveJwtDecoder delegate;
+
+    @Mock
+    Clock clock;
+
+    CachingReactiveJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        this.decoder = new CachingReactiveJwtDecoder(this.delegate,
+                new VerifiedJwtCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry(), this.clock));
+    }
+
+    @Test
+    void decode_TokenIsCached_VerifiesTokenOnce() {
+        // given
+        Jwt jwt = jwt("пользователь", NOW.plusSeconds(300));
+        doReturn(Mono.just(jwt)).when(this.delegate).decode("token");
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        StepVerifier.create(this.decoder.decode("token")
+                        .then(this.decoder.decode("token")))
+                // then
+                .expectNext(jwt)
+                .verifyComplete();
+
+        verify(this.delegate).decode("token");
+    }
+
+    @Test
+    void decode_CachedTokenIsExpired_VerifiesTokenAgain() {
+        // given
+        Jwt jwt = jwt("пользователь", NOW.plusSeconds(60));
+        doReturn(Mono.just(jwt)).when(this.delegate).decode("token");
+        doReturn(NOW, NOW, NOW.plusSeconds(61)).when(this.clock).instant();
+
+        // when
+        StepVerifier.create(this.decoder.decode("token")
+                        .then(this.decoder.decode("token")))
+                // then
+                .expectNext(jwt)
+                .verifyComplete();
+
+        verify(this.delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void decode_TokenIsInvalid_DoesNotCacheFailure() {
+        // given
+        Jwt jwt = jwt("пользователь", NOW.plusSeconds(300));
+        doReturn(Mono.error(new BadJwtException("Неверная подпись")), Mono.just(jwt))
+                .when(this.delegate).decode("token");
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        StepVerifier.create(this.decoder.decode("token"))
+                // then
+                .verifyError(BadJwtException.class);
+
+        StepVerifier.create(this.decoder.decode("token"))
+                .expectNext(jwt)
+                .verifyComplete();
+        verify(this.delegate, times(2)).decode("token");
+    }
+}
@@ -0,0 +1,199 @@
+package com.productdelivery.oauth2resourceserver;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshingJwkSourceTest {
+
+    static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    static final String ISSUER_URI = "http://keycloak/realms/product-delivery";
+
+    static final URL CONFIGURATION_URL = url(ISSUER_URI + "/.well-known/openid-configuration");
+
+    static final URL JWKS_URL = url(ISSUER_URI + "/protocol/openid-connect/certs");
+
+    @Mock
+    ResourceRetriever resourceRetriever;
+
+    @Mock
+    Clock clock;
+
+    @Mock
+    ScheduledExecutorService scheduler;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    JwtCacheProperties properties = new JwtCacheProperties(100, Duration.ofMinutes(10), Duration.ofMinutes(5),
+            Duration.ofSeconds(30), Duration.ofSeconds(10), Duration.ofSeconds(2), Duration.ofSeconds(5));
+
+    RefreshingJwkSource jwkSource;
+
+    @BeforeEach
+    void setUp() {
+        this.jwkSource = new RefreshingJwkSource(ISSUER_URI, null, this.resourceRetriever, this.properties,
+                this.meterRegistry, this.clock, this.scheduler);
+    }
+
+    @Test
+    void afterPropertiesSet_PrefetchesJwkSetFromIssuerMetadata() throws Exception {
+        // given
+        RSAKey key = rsaKey("первый");
+        doReturn(configuration()).when(this.resourceRetriever).retrieveResource(CONFIGURATION_URL);
+        doReturn(jwks(key)).when(this.resourceRetriever).retrieveResource(JWKS_URL);
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        this.jwkSource.afterPropertiesSet();
+        runScheduled(Duration.ZERO);
+        List<JWK> keys = this.jwkSource.get(selector("первый"), null);
+
+        // then
+        assertEquals(List.of(key.toPublicJWK()), keys);
+        verify(this.resourceRetriever).retrieveResource(JWKS_URL);
+        verify(this.scheduler).schedule(any(Runnable.class), eq(Duration.ofMinutes(5).toMillis()),
+                eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, this.meterRegistry.get("jwt.jwks.refresh")
+                .tag("trigger", "scheduled")
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void get_KeyIdIsUnknown_ReloadsJwkSetOncePerMinRefreshInterval() throws Exception {
+        // given
+        RSAKey first = rsaKey("первый");
+        RSAKey second = rsaKey("второй");
+        doReturn(configuration()).when(this.resourceRetriever).retrieveResource(CONFIGURATION_URL);
+        doReturn(jwks(first), jwks(first, second)).when(this.resourceRetriever).retrieveResource(JWKS_URL);
+        doReturn(NOW, NOW.plusSeconds(10), NOW.plusSeconds(31))
+                .when(this.clock).instant();
+
+        // when
+        this.jwkSource.get(selector("первый"), null);
+        List<JWK> tooEarly = this.jwkSource.get(selector("второй"), null);
+        List<JWK> reloaded = this.jwkSource.get(selector("второй"), null);
+
+        // then
+        assertTrue(tooEarly.isEmpty());
+        assertEquals(List.of(second.toPublicJWK()), reloaded);
+        verify(this.resourceRetriever, times(2)).retrieveResource(JWKS_URL);
+        verify(this.resourceRetriever).retrieveResource(CONFIGURATION_URL);
+        assertEquals(2, this.meterRegistry.get("jwt.jwks.refresh")
+                .tag("trigger", "on-demand")
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void refresh_AuthorizationServerIsUnavailable_RetriesAfterRetryDelay() throws Exception {
+        // given
+        RSAKey key = rsaKey("первый");
+        doReturn(configuration()).when(this.resourceRetriever).retrieveResource(CONFIGURATION_URL);
+        doThrow(new IOException("connection refused"))
+                .doReturn(jwks(key))
+                .when(this.resourceRetriever).retrieveResource(JWKS_URL);
+        doReturn(NOW).when(this.clock).instant();
+
+        // when
+        this.jwkSource.afterPropertiesSet();
+        runScheduled(Duration.ZERO);
+        runScheduled(Duration.ofSeconds(10));
+        List<JWK> keys = this.jwkSource.get(selector("первый"), null);
+
+        // then
+        assertEquals(List.of(key.toPublicJWK()), keys);
+        verify(this.resourceRetriever, times(2)).retrieveResource(JWKS_URL);
+        verify(this.scheduler).schedule(any(Runnable.class), eq(Duration.ofMinutes(5).toMillis()),
+                eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, this.meterRegistry.get("jwt.jwks.refresh")
+                .tag("trigger", "scheduled")
+                .tag("outcome", "error")
+                .timer().count());
+    }
+
+    @Test
+    void get_JwkSetCannotBeLoaded_ThrowsKeySourceException() throws Exception {
+        // given
+        this.jwkSource = new RefreshingJwkSource(ISSUER_URI, JWKS_URL.toString(), this.resourceRetriever,
+                this.properties, this.meterRegistry, this.clock, this.scheduler);
+        doThrow(new IOException("connection refused")).when(this.resourceRetriever).retrieveResource(JWKS_URL);
+
+        // when
+        // then
+        assertThrows(KeySourceException.class, () -> this.jwkSource.get(selector("первый"), null));
+        verify(this.resourceRetriever, never()).retrieveResource(CONFIGURATION_URL);
+    }
+
+    void runScheduled(Duration delay) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler).schedule(task.capture(), eq(delay.toMillis()), eq(TimeUnit.MILLISECONDS));
+        task.getValue().run();
+    }
+
+    static JWKSelector selector(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder()
+                .keyID(keyId)
+                .build());
+    }
+
+    static RSAKey rsaKey(String keyId) throws JOSEException {
+        return new RSAKeyGenerator(2048)
+                .keyID(keyId)
+                .generate();
+    }
+
+    static Resource configuration() {
+        return new Resource("{\"issuer\":\"%s\",\"jwks_uri\":\"%s\"}".formatted(ISSUER_URI, JWKS_URL),
+                "application/json");
+    }
+
+    static Resource jwks(JWK... keys) {
+        return new Resource(new JWKSet(List.of(keys)).toString(), "application/json");
+    }
+
+    static URL url(String uri) {
+        try {
+            return URI.create(uri).toURL();
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
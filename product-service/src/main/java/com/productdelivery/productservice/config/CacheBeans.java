@@ -0,0 +1,36 @@
+package com.productdelivery.productservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheBeans {
+
+    public static final String PRODUCTS_CACHE = "products";
+
+    /**
+     * The CacheManager applying puts and evictions only after the surrounding transaction commits
+     * */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${productdelivery.cache.products.maximum-size:10000}") long maximumSize,
+            @Value("${productdelivery.cache.products.expire-after-write:PT5M}") Duration expireAfterWrite
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PRODUCTS_CACHE);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -1,47 +1,40 @@
 package com.productdelivery.productservice.config;
 
+import com.productdelivery.oauth2client.AccessTokenClientHttpRequestInterceptor;
+import com.productdelivery.oauth2client.AccessTokenExchangeFilterFunction;
+import com.productdelivery.oauth2client.AccessTokenProviders;
+import de.codecentric.boot.admin.client.config.ClientProperties;
 import de.codecentric.boot.admin.client.registration.BlockingRegistrationClient;
+import de.codecentric.boot.admin.client.registration.ReactiveRegistrationClient;
 import de.codecentric.boot.admin.client.registration.RegistrationClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
-import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
-import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
-import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class ClientBeans {
 
     @Bean
+    @Profile("!reactive")
     @ConditionalOnProperty(name = "spring.boot.admin.client.enabled", havingValue = "true")
-    public RegistrationClient registrationClient(
-            ClientRegistrationRepository clientRegistrationRepository,
-            OAuth2AuthorizedClientService authorizedClientService
-    ) {
-        AuthorizedClientServiceOAuth2AuthorizedClientManager authorizedClientManager =
-                new AuthorizedClientServiceOAuth2AuthorizedClientManager(clientRegistrationRepository,
-                        authorizedClientService);
-
-        RestTemplate restTemplate = new RestTemplateBuilder()
-                .interceptors((request, body, execution) -> {
-                    if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
-                        OAuth2AuthorizedClient authorizeClient = authorizedClientManager.authorize(OAuth2AuthorizeRequest
-                                .withClientRegistrationId("keycloak")
-                                .principal("catalog-service-metrics-client")
-                                .build());
-
-                        request.getHeaders().setBearerAuth(authorizeClient.getAccessToken().getTokenValue());
-                    }
-
-                    return execution.execute(request, body);
-                })
-                .build();
-        return new BlockingRegistrationClient(restTemplate);
+    public RegistrationClient registrationClient(AccessTokenProviders accessTokenProviders) {
+        return new BlockingRegistrationClient(new RestTemplateBuilder()
+                .interceptors(new AccessTokenClientHttpRequestInterceptor(accessTokenProviders, "keycloak"))
+                .build());
     }
 
+    @Bean
+    @Profile("reactive")
+    @ConditionalOnProperty(name = "spring.boot.admin.client.enabled", havingValue = "true")
+    public RegistrationClient reactiveRegistrationClient(
+            ClientProperties clientProperties,
+            AccessTokenProviders accessTokenProviders
+    ) {
+        return new ReactiveRegistrationClient(WebClient.builder()
+                .filter(new AccessTokenExchangeFilterFunction(accessTokenProviders, "keycloak"))
+                .build(), clientProperties.getReadTimeout());
+    }
 }
@@ -0,0 +1,47 @@
+package com.productdelivery.productservice.config;
+
+import com.productdelivery.productservice.repository.ReactiveProductRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+
+/** The R2DBC beans of the reactive catalog variant * */
+@Configuration
+@Profile("reactive")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(R2dbcProperties.class)
+@EnableR2dbcRepositories(basePackageClasses = ReactiveProductRepository.class)
+public class R2dbcBeans extends AbstractR2dbcConfiguration {
+
+    private final R2dbcProperties r2dbcProperties;
+
+    @Override
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory() {
+        R2dbcProperties.Pool pool = this.r2dbcProperties.getPool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactoryBuilder
+                        .withUrl(this.r2dbcProperties.getUrl())
+                        .username(this.r2dbcProperties.getUsername())
+                        .password(this.r2dbcProperties.getPassword())
+                        .build())
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .build());
+    }
+
+    @Bean
+    public R2dbcTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+}
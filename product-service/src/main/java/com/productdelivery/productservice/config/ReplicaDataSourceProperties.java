@@ -0,0 +1,18 @@
+package com.productdelivery.productservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("productdelivery.datasource")
+public record ReplicaDataSourceProperties(
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("10s") Duration maxReplicationLag,
+        @DefaultValue("1s") Duration connectionTimeout) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.productdelivery.productservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String REPLICA_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".replica";
+
+    private final DataSource primary;
+
+    private final Map<String, DataSource> replicas;
+
+    private final List<String> replicaKeys;
+
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Duration healthCheckInterval;
+
+    private final Duration maxReplicationLag;
+
+    private ScheduledExecutorService healthCheckExecutor;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration healthCheckInterval, Duration maxReplicationLag) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.healthCheckInterval = healthCheckInterval;
+        this.maxReplicationLag = maxReplicationLag;
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        this.setTargetDataSources(targetDataSources);
+        this.setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        // replicas start out of rotation, so reads never wait on a replica that has not answered a probe yet
+        this.checkReplicas();
+        this.healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-health-check")
+                .daemon()
+                .factory());
+        this.healthCheckExecutor.scheduleWithFixedDelay(this::checkReplicas, this.healthCheckInterval.toMillis(),
+                this.healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.healthCheckExecutor != null) {
+            this.healthCheckExecutor.shutdownNow();
+        }
+        for (DataSource replica : this.replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(REPLICA_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof String replica
+                && this.healthyReplicas.contains(replica)) {
+            return replica;
+        }
+
+        String replica = this.nextHealthyReplica();
+        if (replica == null) {
+            return PRIMARY;
+        }
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(REPLICA_ATTRIBUTE, replica, RequestAttributes.SCOPE_REQUEST);
+        }
+        return replica;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = this.determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return this.primary.getConnection();
+        }
+
+        try {
+            return this.replicas.get(key).getConnection();
+        } catch (SQLException exception) {
+            log.warn("Replica {} is unavailable, falling back to the primary", key, exception);
+            this.healthyReplicas.remove(key);
+            return this.primary.getConnection();
+        }
+    }
+
+    public Set<String> getHealthyReplicas() {
+        return Set.copyOf(this.healthyReplicas);
+    }
+
+    void checkReplicas() {
+        this.replicas.forEach((key, replica) -> {
+            if (this.isHealthy(replica)) {
+                if (this.healthyReplicas.add(key)) {
+                    log.info("Replica {} is back in rotation", key);
+                }
+            } else if (this.healthyReplicas.remove(key)) {
+                log.warn("Replica {} is taken out of rotation", key);
+            }
+        });
+    }
+
+    private boolean isHealthy(DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     select case
+                                when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                                else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+                            end""")) {
+            return resultSet.next()
+                    && resultSet.getDouble(1) * 1000 <= this.maxReplicationLag.toMillis();
+        } catch (SQLException exception) {
+            return false;
+        }
+    }
+
+    private String nextHealthyReplica() {
+        for (int i = 0; i < this.replicaKeys.size(); i++) {
+            String replica = this.replicaKeys.get(Math.floorMod(this.nextReplica.getAndIncrement(),
+                    this.replicaKeys.size()));
+            if (this.healthyReplicas.contains(replica)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+}
@@ -2,22 +2,31 @@ package com.productdelivery.productservice.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
 
 @Configuration
 public class SecurityBeans {
 
     @Bean
+    @Profile("!reactive")
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .authorizeHttpRequests(authorizeHttpRequest -> authorizeHttpRequest
                         .requestMatchers(HttpMethod.POST, "/catalog-api/products")
                         .hasAuthority("SCOPE_edit_catalog")
+                        .requestMatchers(HttpMethod.POST, "/catalog-api/products:batch")
+                        .hasAuthority("SCOPE_edit_catalog")
+                        .requestMatchers(HttpMethod.POST, "/catalog-api/products:import")
+                        .hasAuthority("SCOPE_edit_catalog")
                         .requestMatchers(HttpMethod.PATCH, "/catalog-api/products/{productId:\\d}")
                         .hasAuthority("SCOPE_edit_catalog")
                         .requestMatchers(HttpMethod.DELETE, "/catalog-api/products/{productId:\\d}")
@@ -33,4 +42,26 @@ public class SecurityBeans {
                 .oauth2Client(Customizer.withDefaults())
                 .build();
     }
+
+    @Bean
+    @Profile("reactive")
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .authorizeExchange(authorizeExchange -> authorizeExchange
+                        .pathMatchers(HttpMethod.POST, "/catalog-api/products")
+                        .hasAuthority("SCOPE_edit_catalog")
+                        .pathMatchers(HttpMethod.PATCH, "/catalog-api/products/{productId:\\d+}")
+                        .hasAuthority("SCOPE_edit_catalog")
+                        .pathMatchers(HttpMethod.DELETE, "/catalog-api/products/{productId:\\d+}")
+                        .hasAuthority("SCOPE_edit_catalog")
+                        .pathMatchers("/actuator/**").hasAuthority("SCOPE_metrics")
+                        .pathMatchers(HttpMethod.GET).permitAll()
+                        .anyExchange().denyAll())
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .oauth2ResourceServer(oauth2ResourceServer -> oauth2ResourceServer
+                        .jwt(Customizer.withDefaults()))
+                .oauth2Client(Customizer.withDefaults())
+                .build();
+    }
 }
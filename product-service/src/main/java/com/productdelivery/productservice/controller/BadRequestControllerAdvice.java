@@ -2,6 +2,7 @@ package com.productdelivery.productservice.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import java.util.Locale;
 
 @ControllerAdvice
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class BadRequestControllerAdvice {
 
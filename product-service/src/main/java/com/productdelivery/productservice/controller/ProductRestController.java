@@ -6,6 +6,7 @@ import com.productdelivery.productservice.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +27,7 @@ import java.util.Locale;
 import java.util.NoSuchElementException;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 @RequestMapping("catalog-api/products/{productId:\\d+}")
 public class ProductRestController {
@@ -41,8 +43,10 @@ public class ProductRestController {
     }
 
     @GetMapping
-    public Product findProduct(@ModelAttribute("product") Product product) {
-        return product;
+    public ResponseEntity<Product> findProduct(@ModelAttribute("product") Product product) {
+        return ResponseEntity.ok()
+                .eTag("%d-%d".formatted(product.getId(), product.getVersion()))
+                .body(product);
     }
 
     @PatchMapping
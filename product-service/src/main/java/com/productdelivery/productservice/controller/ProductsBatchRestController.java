@@ -0,0 +1,140 @@
+package com.productdelivery.productservice.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productdelivery.productservice.controller.payload.NewProductPayload;
+import com.productdelivery.productservice.controller.payload.ProductBatchItemResult;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.service.ProductService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+@RequestMapping("catalog-api/products:batch")
+public class ProductsBatchRestController {
+
+    private final ProductService productService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final MessageSource messageSource;
+
+    /**
+     * Accepted items are stored in one transaction while the body is read, so an unreadable tail or a failed insert
+     * stores none of them and the caller can safely resend the whole batch
+     * */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ProductBatchItemResult>> createProducts(InputStream body, Locale locale)
+            throws IOException {
+        List<ProductBatchItemResult> results = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        try (JsonParser parser = this.objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+            }
+
+            AtomicInteger index = new AtomicInteger();
+            List<Product> products = this.productService.createProducts(Stream.generate(() -> nextItem(parser))
+                    .takeWhile(Optional::isPresent)
+                    .map(item -> {
+                        int itemIndex = index.getAndIncrement();
+                        List<String> errors = new ArrayList<>();
+                        try {
+                            NewProductPayload payload = this.objectMapper.treeToValue(item.get(),
+                                    NewProductPayload.class);
+                            if (containsNul(payload.title()) || containsNul(payload.details())) {
+                                throw new IllegalArgumentException("PostgreSQL text cannot hold NUL");
+                            }
+
+                            this.validator.validate(payload).stream()
+                                    .map(ConstraintViolation::getMessage)
+                                    .forEach(errors::add);
+                            // the database checks the trimmed title, a violation there would roll back the batch
+                            if (errors.isEmpty()) {
+                                this.validator.validateValue(NewProductPayload.class, "title",
+                                                payload.title().trim()).stream()
+                                        .map(ConstraintViolation::getMessage)
+                                        .forEach(errors::add);
+                            }
+                            if (errors.isEmpty()) {
+                                acceptedIndexes.add(itemIndex);
+                                return new Product(null, payload.title(), payload.details());
+                            }
+                        } catch (JsonProcessingException | IllegalArgumentException exception) {
+                            errors.add(this.messageSource.getMessage(
+                                    "catalog.products.batch.errors.item_is_unreadable", new Object[0],
+                                    "catalog.products.batch.errors.item_is_unreadable", locale));
+                        }
+
+                        results.add(ProductBatchItemResult.rejected(itemIndex, errors));
+                        return null;
+                    })
+                    .filter(Objects::nonNull));
+
+            for (int i = 0; i < products.size(); i++) {
+                results.add(ProductBatchItemResult.created(acceptedIndexes.get(i), products.get(i).getId()));
+            }
+        } catch (JsonProcessingException exception) {
+            throw badRequest(exception);
+        }
+
+        results.sort(Comparator.comparingInt(ProductBatchItemResult::index));
+        return ResponseEntity.ok(results);
+    }
+
+    private static Optional<JsonNode> nextItem(JsonParser parser) {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                return Optional.empty();
+            }
+            if (token == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+            }
+
+            return Optional.of(parser.readValueAsTree());
+        } catch (JsonProcessingException exception) {
+            throw badRequest(exception);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static boolean containsNul(String value) {
+        return value != null && value.indexOf('\0') >= 0;
+    }
+
+    private static ResponseStatusException badRequest(JsonProcessingException exception) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getOriginalMessage(), exception);
+    }
+}
@@ -0,0 +1,105 @@
+package com.productdelivery.productservice.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.productdelivery.productservice.service.ProductExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+@RequestMapping("catalog-api/products:export")
+public class ProductsExportRestController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private static final MediaType APPLICATION_NDJSON = new MediaType(MediaType.APPLICATION_NDJSON,
+            StandardCharsets.UTF_8);
+
+    /** A full export outlives the default async request timeout, which stays in place for every other request * */
+    private static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final ExportTimeoutInterceptor EXPORT_TIMEOUT_INTERCEPTOR = new ExportTimeoutInterceptor();
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("title")
+            .addColumn("details")
+            .build()
+            .withHeader();
+
+    private final ProductExportService productExportService;
+
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportNdjson(HttpServletRequest request) {
+        return this.export(request, APPLICATION_NDJSON, this.objectMapper.writer()
+                .withRootValueSeparator("\n"));
+    }
+
+    @GetMapping(produces = TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCsv(HttpServletRequest request) {
+        return this.export(request, TEXT_CSV, CSV_MAPPER.writer(CSV_SCHEMA));
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(HttpServletRequest request, MediaType mediaType,
+                                                         ObjectWriter writer) {
+        WebAsyncUtils.getAsyncManager(request)
+                .registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR, EXPORT_TIMEOUT_INTERCEPTOR);
+        ObjectWriter streamingWriter = writer
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(outputStream -> {
+                    try (SequenceWriter sequenceWriter = streamingWriter.writeValues(outputStream)) {
+                        this.productExportService.exportProducts(product -> {
+                            try {
+                                sequenceWriter.write(product);
+                            } catch (IOException exception) {
+                                throw new UncheckedIOException(exception);
+                            }
+                        });
+                    }
+                });
+    }
+
+    private static class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            if (request instanceof AsyncWebRequest asyncWebRequest) {
+                asyncWebRequest.setTimeout(EXPORT_TIMEOUT.toMillis());
+            }
+        }
+    }
+}
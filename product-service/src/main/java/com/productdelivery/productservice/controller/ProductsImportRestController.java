@@ -0,0 +1,192 @@
+package com.productdelivery.productservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.productdelivery.productservice.controller.payload.NewProductPayload;
+import com.productdelivery.productservice.controller.payload.ProductImportRejection;
+import com.productdelivery.productservice.controller.payload.ProductImportResult;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.service.ProductImportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+@RequestMapping("catalog-api/products:import")
+public class ProductsImportRestController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final ProductImportService productImportService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final MessageSource messageSource;
+
+    private final MeterRegistry meterRegistry;
+
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ProductImportResult> importCsv(InputStream body, Locale locale) throws IOException {
+        MappingIterator<NewProductPayload> payloads = CSV_MAPPER.readerFor(NewProductPayload.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(body);
+        AtomicLong row = new AtomicLong();
+        Iterator<ImportRow> rows = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return payloads.hasNext();
+                } catch (RuntimeException exception) {
+                    throw unreadableRow(row.get() + 1, locale, exception);
+                }
+            }
+
+            @Override
+            public ImportRow next() {
+                long index = row.incrementAndGet();
+                try {
+                    return new ImportRow(index, payloads.next());
+                } catch (RuntimeJsonMappingException exception) {
+                    return new ImportRow(index, null);
+                } catch (RuntimeException exception) {
+                    throw unreadableRow(index, locale, exception);
+                }
+            }
+        };
+
+        return this.importRows(StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false), locale);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ProductImportResult> importNdjson(InputStream body, Locale locale) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        AtomicLong row = new AtomicLong();
+
+        return this.importRows(reader.lines()
+                .map(line -> {
+                    long index = row.incrementAndGet();
+                    if (line.isBlank()) {
+                        return null;
+                    }
+
+                    try {
+                        return new ImportRow(index, this.objectMapper.readValue(line, NewProductPayload.class));
+                    } catch (IOException exception) {
+                        return new ImportRow(index, null);
+                    }
+                })
+                .filter(Objects::nonNull), locale);
+    }
+
+    private ResponseEntity<ProductImportResult> importRows(Stream<ImportRow> rows, Locale locale) {
+        Counter acceptedCounter = this.meterRegistry.counter("product.import.rows", "result", "accepted");
+        Counter rejectedCounter = this.meterRegistry.counter("product.import.rows", "result", "rejected");
+        AtomicLong rejected = new AtomicLong();
+        List<ProductImportRejection> rejections = new ArrayList<>();
+
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        long imported = this.productImportService.importProducts(rows
+                .filter(row -> {
+                    List<String> errors = this.validate(row, locale);
+                    if (errors.isEmpty()) {
+                        acceptedCounter.increment();
+                        return true;
+                    }
+
+                    rejectedCounter.increment();
+                    if (rejected.incrementAndGet() <= MAX_REPORTED_REJECTIONS) {
+                        rejections.add(new ProductImportRejection(row.row(), errors));
+                    }
+                    return false;
+                })
+                .map(row -> new Product(null, row.payload().title(), row.payload().details())));
+        sample.stop(this.meterRegistry.timer("product.import"));
+
+        return ResponseEntity.ok(new ProductImportResult(imported, rejected.get(), rejections));
+    }
+
+    /** A CSV syntax error leaves the parser without a next record, so the whole feed is rejected * */
+    private RuntimeException unreadableRow(long row, Locale locale, RuntimeException exception) {
+        if (!(exception.getCause() instanceof JsonProcessingException)) {
+            return exception;
+        }
+
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                this.messageSource.getMessage("catalog.products.import.errors.row_is_unreadable",
+                        new Object[]{String.valueOf(row)}, "catalog.products.import.errors.row_is_unreadable",
+                        locale),
+                exception);
+    }
+
+    private List<String> validate(ImportRow row, Locale locale) {
+        if (row.payload() == null || containsNul(row.payload().title()) || containsNul(row.payload().details())) {
+            return List.of(this.messageSource.getMessage("catalog.products.batch.errors.item_is_unreadable",
+                    new Object[0], "catalog.products.batch.errors.item_is_unreadable", locale));
+        }
+
+        List<String> errors = this.validator.validate(row.payload()).stream()
+                .map(ConstraintViolation::getMessage)
+                .toList();
+        if (errors.isEmpty() && row.payload().title() != null) {
+            errors = this.validator.validateValue(NewProductPayload.class, "title", row.payload().title().trim())
+                    .stream()
+                    .map(ConstraintViolation::getMessage)
+                    .toList();
+        }
+        return errors;
+    }
+
+    /** PostgreSQL text cannot hold NUL, such a row would fail the whole COPY * */
+    private static boolean containsNul(String value) {
+        return value != null && value.indexOf('\0') >= 0;
+    }
+
+    private record ImportRow(long row, NewProductPayload payload) {
+    }
+}
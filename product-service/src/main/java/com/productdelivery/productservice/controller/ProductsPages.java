@@ -0,0 +1,97 @@
+package com.productdelivery.productservice.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/** Paging of the product lists, shared by the servlet and the reactive catalog * */
+final class ProductsPages {
+
+    static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    static final String FULL = "full";
+
+    static final String SUMMARY = "summary";
+
+    private ProductsPages() {
+    }
+
+    static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    static void checkIds(Set<Integer> ids) {
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most %d ids can be requested at once".formatted(MAX_PAGE_SIZE));
+        }
+    }
+
+    static int after(String after) {
+        try {
+            return Integer.parseInt(after);
+        } catch (NumberFormatException exception) {
+            throw invalidToken(exception);
+        }
+    }
+
+    /**
+     * A search page continues after the id and the title of the last product of the previous page, carried in the
+     * token so that the position survives the deletion or the renaming of that product
+     * */
+    static SearchAfter searchAfter(String after) {
+        if ("0".equals(after)) {
+            return new SearchAfter(0, "");
+        }
+
+        int separator = after.indexOf('.');
+        if (separator < 0) {
+            throw invalidToken(null);
+        }
+        try {
+            return new SearchAfter(Integer.parseInt(after.substring(0, separator)),
+                    new String(Base64.getUrlDecoder().decode(after.substring(separator + 1)), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException exception) {
+            throw invalidToken(exception);
+        }
+    }
+
+    private static ResponseStatusException invalidToken(@Nullable Throwable cause) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid continuation token", cause);
+    }
+
+    static String searchToken(int id, String title) {
+        return id + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(title.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static <T> ResponseEntity<List<?>> page(List<T> products, int pageSize,
+                                            @Nullable Function<T, String> continuationToken,
+                                            Function<T, Integer> id, Function<T, Integer> version,
+                                            String representation) {
+        // the summary and the full page of the same products must not share a strong ETag
+        StringBuilder versions = new StringBuilder(representation).append('|');
+        products.forEach(product -> versions.append(id.apply(product)).append(':')
+                .append(version.apply(product)).append(';'));
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .eTag(DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)));
+        if (continuationToken != null && products.size() == pageSize) {
+            responseBuilder.header(CONTINUATION_TOKEN_HEADER,
+                    continuationToken.apply(products.get(products.size() - 1)));
+        }
+        return responseBuilder.body(products);
+    }
+
+    record SearchAfter(int id, String title) {
+    }
+}
@@ -2,9 +2,11 @@ package com.productdelivery.productservice.controller;
 
 import com.productdelivery.productservice.controller.payload.NewProductPayload;
 import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
 import com.productdelivery.productservice.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
@@ -16,9 +18,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 @RequestMapping("catalog-api/products")
 public class ProductsRestController {
@@ -26,8 +31,49 @@ public class ProductsRestController {
     private final ProductService productService;
 
     @GetMapping
-    public Iterable<Product> findProducts(@RequestParam(name = "filter", required = false) String filter) {
-        return this.productService.findAllProducts(filter);
+    public ResponseEntity<List<?>> findProducts(@RequestParam(name = "filter", required = false) String filter,
+                                                @RequestParam(name = "after", defaultValue = "0") String after,
+                                                @RequestParam(name = "limit", defaultValue = "100") int limit,
+                                                @RequestParam(name = "fields", required = false) Set<String> fields,
+                                                @RequestParam(name = "ids", required = false) Set<Integer> ids) {
+        boolean summaries = fields != null && !fields.isEmpty() && !fields.contains("details");
+        if (ids != null && !ids.isEmpty()) {
+            ProductsPages.checkIds(ids);
+            return summaries
+                    ? ProductsPages.page(this.productService.findProductSummariesByIds(ids), ids.size(), null,
+                    ProductSummary::getId, ProductSummary::getVersion, ProductsPages.SUMMARY)
+                    : ProductsPages.page(this.productService.findProductsByIds(ids), ids.size(), null,
+                    Product::getId, Product::getVersion, ProductsPages.FULL);
+        }
+
+        int pageSize = ProductsPages.pageSize(limit);
+        if (filter != null && !filter.isBlank()) {
+            ProductsPages.SearchAfter searchAfter = ProductsPages.searchAfter(after);
+            if (summaries) {
+                List<ProductSummary> products = this.productService.searchProductSummaries(filter.trim(),
+                        searchAfter.id(), searchAfter.title(), pageSize);
+                return ProductsPages.page(products, pageSize,
+                        product -> ProductsPages.searchToken(product.getId(), product.getTitle()),
+                        ProductSummary::getId, ProductSummary::getVersion, ProductsPages.SUMMARY);
+            }
+
+            List<Product> products = this.productService.searchProducts(filter.trim(),
+                    searchAfter.id(), searchAfter.title(), pageSize);
+            return ProductsPages.page(products, pageSize,
+                    product -> ProductsPages.searchToken(product.getId(), product.getTitle()),
+                    Product::getId, Product::getVersion, ProductsPages.FULL);
+        }
+
+        if (summaries) {
+            List<ProductSummary> products = this.productService.findAllProductSummaries(ProductsPages.after(after),
+                    pageSize);
+            return ProductsPages.page(products, pageSize, product -> String.valueOf(product.getId()),
+                    ProductSummary::getId, ProductSummary::getVersion, ProductsPages.SUMMARY);
+        }
+
+        List<Product> products = this.productService.findAllProducts(ProductsPages.after(after), pageSize);
+        return ProductsPages.page(products, pageSize, product -> String.valueOf(product.getId()),
+                Product::getId, Product::getVersion, ProductsPages.FULL);
     }
 
     @PostMapping
@@ -0,0 +1,39 @@
+package com.productdelivery.productservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+@ControllerAdvice
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveBadRequestControllerAdvice {
+
+    private final MessageSource messageSource;
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public Mono<ResponseEntity<ProblemDetail>> handleWebExchangeBindException(WebExchangeBindException exception,
+                                                                              Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail
+                .forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                        this.messageSource.getMessage("error.400.title", new Object[0],
+                                "error.400.title", locale));
+        problemDetail.setProperty("errors",
+                exception.getAllErrors().stream()
+                        .map(ObjectError::getDefaultMessage)
+                        .toList());
+
+        return Mono.just(ResponseEntity.badRequest()
+                .body(problemDetail));
+    }
+}
@@ -0,0 +1,74 @@
+package com.productdelivery.productservice.controller;
+
+import com.productdelivery.productservice.controller.payload.UpdateProductPayload;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.service.ReactiveProductService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("catalog-api/products/{productId:\\d+}")
+public class ReactiveProductRestController {
+
+    private final ReactiveProductService productService;
+
+    private final MessageSource messageSource;
+
+    private Mono<Product> getProduct(int productId) {
+        return this.productService.findProduct(productId)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("catalog.errors.product.not_found")));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Product>> findProduct(@PathVariable("productId") int productId) {
+        return getProduct(productId)
+                .map(product -> ResponseEntity.ok()
+                        .eTag("%d-%d".formatted(product.getId(), product.getVersion()))
+                        .body(product));
+    }
+
+    @PatchMapping
+    public Mono<ResponseEntity<Void>> updateProduct(@PathVariable("productId") int productId,
+                                                    @Valid @RequestBody Mono<UpdateProductPayload> payloadMono) {
+        return getProduct(productId)
+                .then(payloadMono)
+                .flatMap(payload -> this.productService.updateProduct(productId, payload.title(),
+                        payload.details()))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @DeleteMapping
+    public Mono<ResponseEntity<Void>> deleteProduct(@PathVariable("productId") int productId) {
+        return getProduct(productId)
+                .then(this.productService.deleteProduct(productId))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public Mono<ResponseEntity<ProblemDetail>> handleNoSuchElementException(NoSuchElementException exception,
+                                                                            Locale locale) {
+        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND,
+                        this.messageSource.getMessage(exception.getMessage(), new Object[0],
+                                exception.getMessage(), locale))));
+    }
+}
@@ -0,0 +1,98 @@
+package com.productdelivery.productservice.controller;
+
+import com.productdelivery.productservice.controller.payload.NewProductPayload;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
+import com.productdelivery.productservice.service.ReactiveProductService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("catalog-api/products")
+public class ReactiveProductsRestController {
+
+    private final ReactiveProductService productService;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<?>>> findProducts(@RequestParam(name = "filter", required = false) String filter,
+                                                      @RequestParam(name = "after", defaultValue = "0") String after,
+                                                      @RequestParam(name = "limit", defaultValue = "100") int limit,
+                                                      @RequestParam(name = "fields", required = false)
+                                                      Set<String> fields,
+                                                      @RequestParam(name = "ids", required = false)
+                                                      Set<Integer> ids) {
+        boolean summaries = fields != null && !fields.isEmpty() && !fields.contains("details");
+        if (ids != null && !ids.isEmpty()) {
+            ProductsPages.checkIds(ids);
+            return summaries
+                    ? this.productService.findProductSummariesByIds(ids).collectList()
+                    .map(products -> ProductsPages.page(products, ids.size(), null,
+                            ProductSummary::getId, ProductSummary::getVersion, ProductsPages.SUMMARY))
+                    : this.productService.findProductsByIds(ids).collectList()
+                    .map(products -> ProductsPages.page(products, ids.size(), null,
+                            Product::getId, Product::getVersion, ProductsPages.FULL));
+        }
+
+        int pageSize = ProductsPages.pageSize(limit);
+        if (filter != null && !filter.isBlank()) {
+            ProductsPages.SearchAfter searchAfter = ProductsPages.searchAfter(after);
+            if (summaries) {
+                Flux<ProductSummary> products = this.productService.searchProductSummaries(filter.trim(),
+                        searchAfter.id(), searchAfter.title(), pageSize);
+                return products.collectList()
+                        .map(page -> ProductsPages.page(page, pageSize,
+                                product -> ProductsPages.searchToken(product.getId(), product.getTitle()),
+                                ProductSummary::getId, ProductSummary::getVersion, ProductsPages.SUMMARY));
+            }
+
+            Flux<Product> products = this.productService.searchProducts(filter.trim(),
+                    searchAfter.id(), searchAfter.title(), pageSize);
+            return products.collectList()
+                    .map(page -> ProductsPages.page(page, pageSize,
+                            product -> ProductsPages.searchToken(product.getId(), product.getTitle()),
+                            Product::getId, Product::getVersion, ProductsPages.FULL));
+        }
+
+        if (summaries) {
+            Flux<ProductSummary> products = this.productService.findAllProductSummaries(ProductsPages.after(after),
+                    pageSize);
+            return products.collectList()
+                    .map(page -> ProductsPages.page(page, pageSize, product -> String.valueOf(product.getId()),
+                            ProductSummary::getId, ProductSummary::getVersion, ProductsPages.SUMMARY));
+        }
+
+        Flux<Product> products = this.productService.findAllProducts(ProductsPages.after(after), pageSize);
+        return products.collectList()
+                .map(page -> ProductsPages.page(page, pageSize, product -> String.valueOf(product.getId()),
+                        Product::getId, Product::getVersion, ProductsPages.FULL));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Product>> createProduct(@Valid @RequestBody Mono<NewProductPayload> payloadMono,
+                                                       UriComponentsBuilder uriComponentsBuilder) {
+        return payloadMono
+                .flatMap(payload -> this.productService.createProduct(payload.title(), payload.details()))
+                .map(product -> ResponseEntity
+                        .created(uriComponentsBuilder
+                                .replacePath("/catalog-api/products/{productId}")
+                                .build(Map.of("productId", product.getId())))
+                        .body(product));
+    }
+}
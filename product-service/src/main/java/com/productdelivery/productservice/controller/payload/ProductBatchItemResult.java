@@ -0,0 +1,18 @@
+package com.productdelivery.productservice.controller.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductBatchItemResult(int index, HttpStatus status, Integer id, List<String> errors) {
+
+    public static ProductBatchItemResult created(int index, Integer id) {
+        return new ProductBatchItemResult(index, HttpStatus.CREATED, id, null);
+    }
+
+    public static ProductBatchItemResult rejected(int index, List<String> errors) {
+        return new ProductBatchItemResult(index, HttpStatus.BAD_REQUEST, null, errors);
+    }
+}
@@ -0,0 +1,6 @@
+package com.productdelivery.productservice.controller.payload;
+
+import java.util.List;
+
+public record ProductImportRejection(long row, List<String> errors) {
+}
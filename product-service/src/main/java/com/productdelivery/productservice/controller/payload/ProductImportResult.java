@@ -0,0 +1,6 @@
+package com.productdelivery.productservice.controller.payload;
+
+import java.util.List;
+
+public record ProductImportResult(long imported, long rejected, List<ProductImportRejection> rejections) {
+}
@@ -1,15 +1,19 @@
 package com.productdelivery.productservice.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Data
@@ -17,18 +21,36 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(schema = "catalog", name = "t_product")
+@org.springframework.data.relational.core.mapping.Table(schema = "catalog", name = "t_product")
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @org.springframework.data.annotation.Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id_seq")
+    @SequenceGenerator(name = "product_id_seq", schema = "catalog", sequenceName = "t_product_id_seq",
+            allocationSize = 50)
     private Integer id;
 
     @Column(name = "c_title")
+    @org.springframework.data.relational.core.mapping.Column("c_title")
     @NotNull
     @Size(min = 3, max = 50)
     private String title;
 
     @Column(name = "c_details")
+    @org.springframework.data.relational.core.mapping.Column("c_details")
     @Size(max = 1000)
     private String details;
+
+    @Version
+    @org.springframework.data.annotation.Version
+    @Column(name = "c_version")
+    @org.springframework.data.relational.core.mapping.Column("c_version")
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Integer version;
+
+    public Product(Integer id, String title, String details) {
+        this(id, title, details, null);
+    }
 }
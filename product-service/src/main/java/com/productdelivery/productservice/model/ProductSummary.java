@@ -0,0 +1,13 @@
+package com.productdelivery.productservice.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public interface ProductSummary {
+
+    Integer getId();
+
+    String getTitle();
+
+    @JsonIgnore
+    Integer getVersion();
+}
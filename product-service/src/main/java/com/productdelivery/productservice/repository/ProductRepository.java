@@ -1,11 +1,49 @@
 package com.productdelivery.productservice.repository;
 
 import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProductRepository extends CrudRepository<Product, Integer> {
 
-    Iterable<Product> findAllByTitleLikeIgnoreCase(@Param("filter") String filter);
+    List<Product> findAllByIdGreaterThanOrderByIdAsc(@Param("after") int after, Limit limit);
+
+    List<ProductSummary> findSummariesByIdGreaterThanOrderByIdAsc(@Param("after") int after, Limit limit);
+
+    List<Product> findAllByIdInOrderByIdAsc(@Param("ids") Collection<Integer> ids);
+
+    List<ProductSummary> findSummariesByIdInOrderByIdAsc(@Param("ids") Collection<Integer> ids);
+
+    /** Title matches first, then the closest titles; pages continue after the id and title in the token * */
+    @Query(value = """
+            select p.* from catalog.t_product p
+            where (p.c_title ilike :pattern or p.c_details ilike :pattern)
+              and (:after = 0 or (p.c_title ilike :pattern, similarity(p.c_title, :query), -p.id)
+                  < (:afterTitle ilike :pattern, similarity(:afterTitle, :query), -:after))
+            order by p.c_title ilike :pattern desc, similarity(p.c_title, :query) desc, p.id
+            limit :limit""", nativeQuery = true)
+    List<Product> searchAllByTitleOrDetails(@Param("query") String query,
+                                            @Param("pattern") String pattern,
+                                            @Param("after") int after,
+                                            @Param("afterTitle") String afterTitle,
+                                            @Param("limit") int limit);
+
+    @Query(value = """
+            select p.id as id, p.c_title as title, p.c_version as version from catalog.t_product p
+            where (p.c_title ilike :pattern or p.c_details ilike :pattern)
+              and (:after = 0 or (p.c_title ilike :pattern, similarity(p.c_title, :query), -p.id)
+                  < (:afterTitle ilike :pattern, similarity(:afterTitle, :query), -:after))
+            order by p.c_title ilike :pattern desc, similarity(p.c_title, :query) desc, p.id
+            limit :limit""", nativeQuery = true)
+    List<ProductSummary> searchSummariesByTitleOrDetails(@Param("query") String query,
+                                                         @Param("pattern") String pattern,
+                                                         @Param("after") int after,
+                                                         @Param("afterTitle") String afterTitle,
+                                                         @Param("limit") int limit);
 }
@@ -0,0 +1,55 @@
+package com.productdelivery.productservice.repository;
+
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+public interface ReactiveProductRepository extends ReactiveCrudRepository<Product, Integer> {
+
+    @Query("select p.* from catalog.t_product p where p.id > :after order by p.id limit :limit")
+    Flux<Product> findAllByIdGreaterThanOrderByIdAsc(@Param("after") int after, @Param("limit") int limit);
+
+    @Query("""
+            select p.id, p.c_title, p.c_version from catalog.t_product p
+            where p.id > :after order by p.id limit :limit""")
+    Flux<ProductSummary> findSummariesByIdGreaterThanOrderByIdAsc(@Param("after") int after,
+                                                                  @Param("limit") int limit);
+
+    @Query("select p.* from catalog.t_product p where p.id in (:ids) order by p.id")
+    Flux<Product> findAllByIdInOrderByIdAsc(@Param("ids") Collection<Integer> ids);
+
+    @Query("select p.id, p.c_title, p.c_version from catalog.t_product p where p.id in (:ids) order by p.id")
+    Flux<ProductSummary> findSummariesByIdInOrderByIdAsc(@Param("ids") Collection<Integer> ids);
+
+    /** Title matches first, then the closest titles; pages continue after the id and title in the token * */
+    @Query("""
+            select p.* from catalog.t_product p
+            where (p.c_title ilike :pattern or p.c_details ilike :pattern)
+              and (:after = 0 or (p.c_title ilike :pattern, similarity(p.c_title, :query), -p.id)
+                  < (:afterTitle ilike :pattern, similarity(:afterTitle, :query), -:after))
+            order by p.c_title ilike :pattern desc, similarity(p.c_title, :query) desc, p.id
+            limit :limit""")
+    Flux<Product> searchAllByTitleOrDetails(@Param("query") String query,
+                                            @Param("pattern") String pattern,
+                                            @Param("after") int after,
+                                            @Param("afterTitle") String afterTitle,
+                                            @Param("limit") int limit);
+
+    @Query("""
+            select p.id, p.c_title, p.c_version from catalog.t_product p
+            where (p.c_title ilike :pattern or p.c_details ilike :pattern)
+              and (:after = 0 or (p.c_title ilike :pattern, similarity(p.c_title, :query), -p.id)
+                  < (:afterTitle ilike :pattern, similarity(:afterTitle, :query), -:after))
+            order by p.c_title ilike :pattern desc, similarity(p.c_title, :query) desc, p.id
+            limit :limit""")
+    Flux<ProductSummary> searchSummariesByTitleOrDetails(@Param("query") String query,
+                                                         @Param("pattern") String pattern,
+                                                         @Param("after") int after,
+                                                         @Param("afterTitle") String afterTitle,
+                                                         @Param("limit") int limit);
+}
@@ -0,0 +1,34 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class DefaultProductExportService implements ProductExportService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProducts(Consumer<Product> consumer) {
+        this.jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "select id, c_title, c_details from catalog.t_product order by id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(new Product(resultSet.getInt("id"),
+                resultSet.getString("c_title"), resultSet.getString("c_details"))));
+    }
+}
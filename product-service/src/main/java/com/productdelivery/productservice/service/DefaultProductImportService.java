@@ -0,0 +1,118 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class DefaultProductImportService implements ProductImportService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /** Matches the increment of catalog.t_product_id_seq and the allocation size of Product ids * */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public long importProducts(Stream<Product> products) {
+        return Objects.requireNonNull(this.jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        create temp table t_product_import (
+                            c_row     bigint generated always as identity,
+                            c_title   varchar(50),
+                            c_details varchar(1000)
+                        ) on commit drop""");
+
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                        new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                                "copy t_product_import (c_title, c_details) from stdin with (format csv)",
+                                COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                    products.forEach(product -> {
+                        try {
+                            writer.write(csvValue(product.getTitle()));
+                            writer.write(',');
+                            writer.write(csvValue(product.getDetails()));
+                            writer.write('\n');
+                        } catch (IOException exception) {
+                            throw new UncheckedIOException(exception);
+                        }
+                    });
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+
+                long imported = 0;
+                Long[] lastIds = reserveIdBlocks(statement);
+                if (lastIds.length > 0) {
+                    try (PreparedStatement insert = connection.prepareStatement("""
+                            insert into catalog.t_product (id, c_title, c_details)
+                            select b.c_last_id - %1$d + 1 + (i.c_row - 1) %% %1$d, i.c_title, i.c_details
+                            from t_product_import i
+                                join unnest(?) with ordinality as b(c_last_id, c_block)
+                                    on b.c_block = (i.c_row - 1) / %1$d + 1
+                            order by i.c_row""".formatted(ID_BLOCK_SIZE))) {
+                        insert.setArray(1, connection.createArrayOf("bigint", lastIds));
+                        imported = insert.executeUpdate();
+                    }
+                }
+                statement.execute("drop table t_product_import");
+                return imported;
+            }
+        }));
+    }
+
+    /**
+     * Takes one value of the pooled sequence per block of imported rows, like Hibernate does
+     * */
+    private static Long[] reserveIdBlocks(Statement statement) throws SQLException {
+        long blocks;
+        try (ResultSet resultSet = statement.executeQuery("select count(*) from t_product_import")) {
+            resultSet.next();
+            blocks = (resultSet.getLong(1) + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        }
+
+        List<Long> lastIds = new ArrayList<>();
+        while (lastIds.size() < blocks) {
+            try (ResultSet resultSet = statement.executeQuery(
+                    "select nextval('catalog.t_product_id_seq') from generate_series(1, %d)"
+                            .formatted(blocks - lastIds.size()))) {
+                while (resultSet.next()) {
+                    long lastId = resultSet.getLong(1);
+                    // a new sequence starts at 1, which does not cover a whole block
+                    if (lastId >= ID_BLOCK_SIZE) {
+                        lastIds.add(lastId);
+                    }
+                }
+            }
+        }
+        return lastIds.toArray(Long[]::new);
+    }
+
+    private static String csvValue(String value) {
+        return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
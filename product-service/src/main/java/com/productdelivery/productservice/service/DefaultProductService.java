@@ -1,45 +1,117 @@
 package com.productdelivery.productservice.service;
 
+import com.productdelivery.productservice.config.CacheBeans;
 import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
 import com.productdelivery.productservice.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@CacheConfig(cacheNames = CacheBeans.PRODUCTS_CACHE)
 public class DefaultProductService implements ProductService {
 
+    private static final int CHUNK_SIZE = 500;
+
     private final ProductRepository productRepository;
 
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    private final EntityManager entityManager;
+
     @Override
-    public Iterable<Product> findAllProducts(String filter) {
-        if (filter != null && !filter.isBlank()) {
-            return this.productRepository.findAllByTitleLikeIgnoreCase("%" + filter + "%");
-        }
-        return this.productRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<Product> findAllProducts(int after, int limit) {
+        return this.productRepository.findAllByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> searchProducts(String query, int after, String afterTitle, int limit) {
+        return this.productRepository.searchAllByTitleOrDetails(query, SearchPatterns.likePattern(query),
+                after, afterTitle, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findAllProductSummaries(int after, int limit) {
+        return this.productRepository.findSummariesByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSummary> searchProductSummaries(String query, int after, String afterTitle, int limit) {
+        return this.productRepository.searchSummariesByTitleOrDetails(query, SearchPatterns.likePattern(query),
+                after, afterTitle, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findProductsByIds(Collection<Integer> ids) {
+        return this.productRepository.findAllByIdInOrderByIdAsc(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findProductSummariesByIds(Collection<Integer> ids) {
+        return this.productRepository.findSummariesByIdInOrderByIdAsc(ids);
     }
 
     @Override
     @Transactional
+    @CachePut(key = "#result.id")
     public Product createProduct(String title, String details) {
-        return this.productRepository.save(new Product(null, title, details));
+        return detached(this.productRepository.save(new Product(null, title, details)));
     }
 
     @Override
+    @Transactional
+    public List<Product> createProducts(Stream<Product> products) {
+        List<Product> createdProducts = new ArrayList<>();
+        List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (Iterator<Product> iterator = products.iterator(); iterator.hasNext(); ) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                this.productRepository.saveAll(chunk).forEach(createdProducts::add);
+                // the inserted products are not read again, so the persistence context is kept to one chunk
+                this.entityManager.flush();
+                this.entityManager.clear();
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        return createdProducts;
+    }
+
+    @Override
+    @Cacheable(key = "#productId", unless = "#result == null")
     public Optional<Product> findProduct(int productId) {
-        return this.productRepository.findById(productId);
+        return this.productRepository.findById(productId).map(DefaultProductService::detached);
     }
 
     @Override
     @Transactional
+    @CacheEvict(key = "#id")
     public void updateProduct(Integer id, String title, String details) {
         this.productRepository.findById(id).ifPresentOrElse(product -> {
             product.setTitle(title);
             product.setDetails(details);
+            this.productCacheInvalidator.invalidate(id);
         }, () -> {
             throw new NoSuchElementException();
         });
@@ -47,7 +119,14 @@ public class DefaultProductService implements ProductService {
 
     @Override
     @Transactional
+    @CacheEvict(key = "#id")
     public void deleteProduct(Integer id) {
         this.productRepository.deleteById(id);
+        this.productCacheInvalidator.invalidate(id);
+    }
+
+    /** Cached products are shared between requests, so none of them may be managed by a persistence context * */
+    private static Product detached(Product product) {
+        return new Product(product.getId(), product.getTitle(), product.getDetails(), product.getVersion());
     }
 }
@@ -0,0 +1,91 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
+import com.productdelivery.productservice.repository.ReactiveProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class DefaultReactiveProductService implements ReactiveProductService {
+
+    private final ReactiveProductRepository productRepository;
+
+    private final ReactiveProductCacheInvalidator productCacheInvalidator;
+
+    private final ReactiveProductIdAllocator productIdAllocator;
+
+    @Override
+    public Flux<Product> findAllProducts(int after, int limit) {
+        return this.productRepository.findAllByIdGreaterThanOrderByIdAsc(after, limit);
+    }
+
+    @Override
+    public Flux<Product> searchProducts(String query, int after, String afterTitle, int limit) {
+        return this.productRepository.searchAllByTitleOrDetails(query, SearchPatterns.likePattern(query),
+                after, afterTitle, limit);
+    }
+
+    @Override
+    public Flux<ProductSummary> findAllProductSummaries(int after, int limit) {
+        return this.productRepository.findSummariesByIdGreaterThanOrderByIdAsc(after, limit);
+    }
+
+    @Override
+    public Flux<ProductSummary> searchProductSummaries(String query, int after, String afterTitle, int limit) {
+        return this.productRepository.searchSummariesByTitleOrDetails(query,
+                SearchPatterns.likePattern(query), after, afterTitle, limit);
+    }
+
+    @Override
+    public Flux<Product> findProductsByIds(Collection<Integer> ids) {
+        return this.productRepository.findAllByIdInOrderByIdAsc(ids);
+    }
+
+    @Override
+    public Flux<ProductSummary> findProductSummariesByIds(Collection<Integer> ids) {
+        return this.productRepository.findSummariesByIdInOrderByIdAsc(ids);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Product> createProduct(String title, String details) {
+        // a new product has no version yet, so the assigned id is still inserted
+        return this.productIdAllocator.nextId()
+                .flatMap(id -> this.productRepository.save(new Product(id, title, details)));
+    }
+
+    @Override
+    public Mono<Product> findProduct(int productId) {
+        return this.productRepository.findById(productId);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> updateProduct(Integer id, String title, String details) {
+        return this.productRepository.findById(id)
+                .switchIfEmpty(Mono.error(NoSuchElementException::new))
+                .flatMap(product -> {
+                    product.setTitle(title);
+                    product.setDetails(details);
+                    return this.productRepository.save(product);
+                })
+                .flatMap(product -> this.productCacheInvalidator.invalidate(id));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteProduct(Integer id) {
+        return this.productRepository.deleteById(id)
+                .then(this.productCacheInvalidator.invalidate(id));
+    }
+}
@@ -0,0 +1,18 @@
+package com.productdelivery.productservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PgNotifyProductCacheInvalidator implements ProductCacheInvalidator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void invalidate(int productId) {
+        this.jdbcTemplate.queryForList("select pg_notify(?, ?)",
+                CHANNEL, "%d:%d".formatted(productId, System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.productdelivery.productservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class PgNotifyReactiveProductCacheInvalidator implements ReactiveProductCacheInvalidator {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> invalidate(int productId) {
+        return Mono.defer(() -> this.databaseClient.sql("select pg_notify(:channel, :payload)")
+                .bind("channel", ProductCacheInvalidator.CHANNEL)
+                .bind("payload", "%d:%d".formatted(productId, System.currentTimeMillis()))
+                .then());
+    }
+}
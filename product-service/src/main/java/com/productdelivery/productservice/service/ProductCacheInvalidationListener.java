@@ -0,0 +1,121 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.config.CacheBeans;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private final CacheManager cacheManager;
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    /** Connects outside the pool, the LISTEN session would otherwise hold a pooled connection for good * */
+    private DataSource listenerDataSource;
+
+    private Timer lagTimer;
+
+    @Override
+    public void start() {
+        this.lagTimer = Timer.builder("product.cache.invalidation.lag")
+                .description("Time between a product change commit and the local cache eviction")
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+        this.listenerDataSource = this.dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        this.running = true;
+        this.worker = Thread.ofPlatform()
+                .name("product-cache-invalidation")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        this.worker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    private void listen() {
+        Cache cache = Objects.requireNonNull(this.cacheManager.getCache(CacheBeans.PRODUCTS_CACHE));
+        while (this.running) {
+            try (Connection connection = this.listenerDataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + ProductCacheInvalidator.CHANNEL);
+                }
+                cache.clear();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (this.running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            this.evict(cache, notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException exception) {
+                if (this.running) {
+                    log.warn("Product cache invalidation channel is lost, reconnecting in {}", RECONNECT_DELAY,
+                            exception);
+                    try {
+                        Thread.sleep(RECONNECT_DELAY);
+                    } catch (InterruptedException interruptedException) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void evict(Cache cache, String payload) {
+        String[] parts = payload.split(":");
+        try {
+            cache.evict(Integer.valueOf(parts[0]));
+            if (parts.length > 1) {
+                long lag = System.currentTimeMillis() - Long.parseLong(parts[1]);
+                this.lagTimer.record(Duration.ofMillis(Math.max(lag, 0)));
+            }
+        } catch (NumberFormatException exception) {
+            log.warn("Malformed product cache invalidation payload: {}", payload);
+        }
+    }
+}
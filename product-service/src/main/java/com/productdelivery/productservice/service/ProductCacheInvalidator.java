@@ -0,0 +1,8 @@
+package com.productdelivery.productservice.service;
+
+public interface ProductCacheInvalidator {
+
+    String CHANNEL = "catalog_product_invalidation";
+
+    void invalidate(int productId);
+}
@@ -0,0 +1,10 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.model.Product;
+
+import java.util.function.Consumer;
+
+public interface ProductExportService {
+
+    void exportProducts(Consumer<Product> consumer);
+}
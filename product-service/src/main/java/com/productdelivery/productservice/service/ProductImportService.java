@@ -0,0 +1,10 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.model.Product;
+
+import java.util.stream.Stream;
+
+public interface ProductImportService {
+
+    long importProducts(Stream<Product> products);
+}
@@ -2,15 +2,31 @@ package com.productdelivery.productservice.service;
 
 
 import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductService {
-    Iterable<Product> findAllProducts(String filter);
+    List<Product> findAllProducts(int after, int limit);
+
+    List<Product> searchProducts(String query, int after, String afterTitle, int limit);
+
+    List<ProductSummary> findAllProductSummaries(int after, int limit);
+
+    List<ProductSummary> searchProductSummaries(String query, int after, String afterTitle, int limit);
+
+    List<Product> findProductsByIds(Collection<Integer> ids);
+
+    List<ProductSummary> findProductSummariesByIds(Collection<Integer> ids);
 
     Product createProduct(String title, String details);
 
+    /** Stores all products in one transaction, a failure while the stream is consumed stores none of them * */
+    List<Product> createProducts(Stream<Product> products);
+
     Optional<Product> findProduct(int productId);
 
     void updateProduct(Integer id, String title, String details);
@@ -0,0 +1,8 @@
+package com.productdelivery.productservice.service;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductCacheInvalidator {
+
+    Mono<Void> invalidate(int productId);
+}
@@ -0,0 +1,61 @@
+package com.productdelivery.productservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands out product ids from blocks of the pooled sequence, one nextval per block like Hibernate does for the JPA
+ * side, instead of burning a whole block with the column default on every insert
+ * */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductIdAllocator {
+
+    /** Matches the increment of catalog.t_product_id_seq and the allocation size of Product ids * */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+
+    private final Object lock = new Object();
+
+    private long nextId = 1;
+
+    private long lastId = 0;
+
+    public Mono<Integer> nextId() {
+        return Mono.defer(() -> {
+            synchronized (this.lock) {
+                if (this.nextId <= this.lastId) {
+                    return Mono.just(Math.toIntExact(this.nextId++));
+                }
+            }
+
+            return this.reserveBlock()
+                    .map(blockLastId -> {
+                        long blockFirstId = blockLastId - ID_BLOCK_SIZE + 1;
+                        synchronized (this.lock) {
+                            // another caller may have installed a block meanwhile, the rest of this one is dropped
+                            if (this.nextId > this.lastId) {
+                                this.nextId = blockFirstId + 1;
+                                this.lastId = blockLastId;
+                            }
+                        }
+                        return Math.toIntExact(blockFirstId);
+                    });
+        });
+    }
+
+    private Mono<Long> reserveBlock() {
+        return this.databaseClient.sql("select nextval('catalog.t_product_id_seq')")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .repeat()
+                // a new sequence starts at 1, which does not cover a whole block
+                .filter(blockLastId -> blockLastId >= ID_BLOCK_SIZE)
+                .next();
+    }
+}
@@ -0,0 +1,31 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveProductService {
+
+    Flux<Product> findAllProducts(int after, int limit);
+
+    Flux<Product> searchProducts(String query, int after, String afterTitle, int limit);
+
+    Flux<ProductSummary> findAllProductSummaries(int after, int limit);
+
+    Flux<ProductSummary> searchProductSummaries(String query, int after, String afterTitle, int limit);
+
+    Flux<Product> findProductsByIds(Collection<Integer> ids);
+
+    Flux<ProductSummary> findProductSummariesByIds(Collection<Integer> ids);
+
+    Mono<Product> createProduct(String title, String details);
+
+    Mono<Product> findProduct(int productId);
+
+    Mono<Void> updateProduct(Integer id, String title, String details);
+
+    Mono<Void> deleteProduct(Integer id);
+}
@@ -0,0 +1,13 @@
+package com.productdelivery.productservice.service;
+
+/** Patterns of the product search, shared by the servlet and the reactive catalog * */
+final class SearchPatterns {
+
+    private SearchPatterns() {
+    }
+
+    /** An ilike pattern matching the query anywhere, with its own wildcards escaped * */
+    static String likePattern(String query) {
+        return "%" + query.replaceAll("([\\\\%_])", "\\\\$1") + "%";
+    }
+}
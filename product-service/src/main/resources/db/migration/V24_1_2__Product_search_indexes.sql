@@ -0,0 +1,4 @@
+create extension if not exists pg_trgm;
+
+create index idx_product_title_trgm on catalog.t_product using gin (c_title gin_trgm_ops);
+create index idx_product_details_trgm on catalog.t_product using gin (c_details gin_trgm_ops);
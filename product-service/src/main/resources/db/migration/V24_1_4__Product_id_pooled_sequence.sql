@@ -0,0 +1 @@
+alter sequence catalog.t_product_id_seq increment by 50;
@@ -0,0 +1,30 @@
+package com.productdelivery.productservice.config;
+
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Points both the JDBC data source, used by Flyway, and the R2DBC pool of the reactive profile to one container,
+ * a jdbc:tc url alone would leave R2DBC without a database
+ * */
+public class ReactiveDatabaseInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("manager")
+            .withUsername("manager")
+            .withPassword("manager");
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        POSTGRES.start();
+        TestPropertyValues.of(
+                "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "spring.r2dbc.url=r2dbc:postgresql://%s:%d/%s".formatted(POSTGRES.getHost(),
+                        POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), POSTGRES.getDatabaseName()),
+                "spring.r2dbc.username=" + POSTGRES.getUsername(),
+                "spring.r2dbc.password=" + POSTGRES.getPassword()
+        ).applyTo(applicationContext);
+    }
+}
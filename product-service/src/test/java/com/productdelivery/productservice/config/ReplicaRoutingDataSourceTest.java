@@ -0,0 +1,198 @@
+package com.productdelivery.productservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    DataSource primary;
+
+    @Mock
+    DataSource firstReplica;
+
+    @Mock
+    DataSource secondReplica;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    Connection probeConnection;
+
+    @Mock
+    Statement statement;
+
+    @Mock
+    ResultSet resultSet;
+
+    ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", this.firstReplica);
+        replicas.put("replica-1", this.secondReplica);
+        this.dataSource = new ReplicaRoutingDataSource(this.primary, replicas,
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getConnection_TransactionIsNotReadOnly_ReturnsPrimaryConnection() throws SQLException {
+        // given
+        doReturn(this.connection).when(this.primary).getConnection();
+
+        // when
+        var result = this.dataSource.getConnection();
+
+        // then
+        assertSame(this.connection, result);
+        verifyNoInteractions(this.firstReplica, this.secondReplica);
+    }
+
+    @Test
+    void getConnection_TransactionIsReadOnly_SticksToOneReplicaPerRequest() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        this.probeReplicas(0, this.firstReplica, this.secondReplica);
+        doReturn(this.connection).when(this.firstReplica).getConnection();
+
+        // when
+        this.dataSource.getConnection();
+        var result = this.dataSource.getConnection();
+
+        // then
+        assertSame(this.connection, result);
+        verifyNoInteractions(this.primary, this.secondReplica);
+    }
+
+    @Test
+    void getConnection_ReplicaIsUnavailable_FallsBackToPrimary() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        this.probeReplicas(0, this.firstReplica, this.secondReplica);
+        doThrow(new SQLException("Connection refused")).when(this.firstReplica).getConnection();
+        doReturn(this.connection).when(this.primary).getConnection();
+
+        // when
+        var result = this.dataSource.getConnection();
+
+        // then
+        assertSame(this.connection, result);
+        assertEquals(Set.of("replica-1"), this.dataSource.getHealthyReplicas());
+        verify(this.firstReplica).getConnection();
+    }
+
+    @Test
+    void getConnection_ReplicasHaveNotBeenProbed_ReturnsPrimaryConnection() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        doReturn(this.connection).when(this.primary).getConnection();
+
+        // when
+        var result = this.dataSource.getConnection();
+
+        // then
+        assertSame(this.connection, result);
+        assertEquals(Set.of(), this.dataSource.getHealthyReplicas());
+        verifyNoInteractions(this.firstReplica, this.secondReplica);
+    }
+
+    @Test
+    void getConnection_RequestsAreDifferent_AlternatesHealthyReplicas() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        this.probeReplicas(0, this.firstReplica, this.secondReplica);
+        doReturn(this.connection).when(this.firstReplica).getConnection();
+        doReturn(this.probeConnection).when(this.secondReplica).getConnection();
+
+        // when
+        var first = this.dataSource.getConnection();
+        var second = this.dataSource.getConnection();
+
+        // then
+        assertSame(this.connection, first);
+        assertSame(this.probeConnection, second);
+        verifyNoInteractions(this.primary);
+    }
+
+    @Test
+    void afterPropertiesSet_ReplicaAnswersProbe_PutsItInRotationBeforeFirstRead() throws Exception {
+        // given
+        doReturn(this.probeConnection).when(this.firstReplica).getConnection();
+        doThrow(new SQLException("Connection refused")).when(this.secondReplica).getConnection();
+        doReturn(this.statement).when(this.probeConnection).createStatement();
+        doReturn(this.resultSet).when(this.statement).executeQuery(anyString());
+        doReturn(true).when(this.resultSet).next();
+        doReturn(0.0).when(this.resultSet).getDouble(1);
+
+        // when
+        try {
+            this.dataSource.afterPropertiesSet();
+
+            // then
+            assertEquals(Set.of("replica-0"), this.dataSource.getHealthyReplicas());
+        } finally {
+            this.dataSource.destroy();
+        }
+    }
+
+    @Test
+    void checkReplicas_ReplicasLagBehind_TakesThemOutOfRotation() throws SQLException {
+        // given
+        this.probeReplicas(0, this.firstReplica, this.secondReplica);
+
+        // when
+        this.probeReplicas(30, this.firstReplica, this.secondReplica);
+
+        // then
+        assertEquals(Set.of(), this.dataSource.getHealthyReplicas());
+    }
+
+    void probeReplicas(double lagSeconds, DataSource... replicas) throws SQLException {
+        for (DataSource replica : replicas) {
+            doReturn(this.probeConnection).when(replica).getConnection();
+        }
+        doReturn(this.statement).when(this.probeConnection).createStatement();
+        doReturn(this.resultSet).when(this.statement).executeQuery(anyString());
+        doReturn(true).when(this.resultSet).next();
+        doReturn(lagSeconds).when(this.resultSet).getDouble(1);
+        this.dataSource.checkReplicas();
+        clearInvocations(replicas);
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -15,6 +16,7 @@ import java.util.Locale;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
@@ -61,6 +63,24 @@ class ProductRestControllerIT {
                 );
     }
 
+    @Test
+    @Sql("/sql/products.sql")
+    void findProduct_ETagMatches_ReturnsNotModified() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\"");
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, "\"1-0\""),
+                        content().string("")
+                );
+    }
+
     @Test
     @Sql("/sql/products.sql")
     void updateProduct_RequestIsValid_ReturnsNoContent() throws Exception {
@@ -71,13 +71,16 @@ class ProductRestControllerTest {
     @Test
     void findProduct_ReturnsProduct() {
         // given
-        var product = new Product(1, "Новый товар", "Описание нового товара");
+        var product = new Product(1, "Новый товар", "Описание нового товара", 2);
 
         // then
         var result = this.restController.findProduct(product);
 
         // when
-        assertEquals(new Product(1, "Новый товар", "Описание нового товара"), result);
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"1-2\"", result.getHeaders().getETag());
+        assertEquals(new Product(1, "Новый товар", "Описание нового товара"), result.getBody());
     }
 
     @Test
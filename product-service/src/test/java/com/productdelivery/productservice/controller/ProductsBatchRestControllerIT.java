@@ -0,0 +1,176 @@
+package com.productdelivery.productservice.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+@Sql(statements = "select setval('catalog.t_product_id_seq', 1, false)",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ProductsBatchRestControllerIT {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createProducts_RequestContainsInvalidItems_ReturnsItemResults() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [
+                            {"title": "Чоколадка", "details": "Очень вкусная чоколадка"},
+                            {"title": "  ", "details": null},
+                            {"title": ["Кефирка"]},
+                            {"title": "Кефирка бутыла", "details": "Жирность 3,2%"}
+                        ]""")
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"index": 0, "status": "CREATED"},
+                                    {
+                                        "index": 1,
+                                        "status": "BAD_REQUEST",
+                                        "errors": ["Название товара должно быть от 3 до 50 символов"]
+                                    },
+                                    {
+                                        "index": 2,
+                                        "status": "BAD_REQUEST",
+                                        "errors": ["Не удалось прочитать описание товара"]
+                                    },
+                                    {"index": 3, "status": "CREATED"}
+                                ]"""),
+                        jsonPath("$[0].id").isNumber(),
+                        jsonPath("$[3].id").isNumber()
+                );
+    }
+
+    @Test
+    void createProducts_TitleIsPaddedWithWhitespace_RejectsItem() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [
+                            {"title": "  а  ", "details": "Очень короткое название"},
+                            {"title": "Кефирка", "details": "Жирность 3,2%"}
+                        ]""")
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {
+                                        "index": 0,
+                                        "status": "BAD_REQUEST",
+                                        "errors": ["Название товара должно быть от 3 до 50 символов"]
+                                    },
+                                    {"index": 1, "status": "CREATED"}
+                                ]"""),
+                        jsonPath("$[1].id").isNumber()
+                );
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void createProducts_BodyIsTruncatedAfterFirstChunk_StoresNoProducts() throws Exception {
+        // given
+        var productsCount = this.jdbcTemplate.queryForObject("select count(*) from catalog.t_product", Long.class);
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(IntStream.rangeClosed(1, 600)
+                        .mapToObj(i -> """
+                                {"title": "Товар №%1$d", "details": "Описание товара №%1$d"}""".formatted(i))
+                        .collect(Collectors.joining(",", "[", ",{\"title\": ")))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest()
+                );
+
+        assertEquals(productsCount,
+                this.jdbcTemplate.queryForObject("select count(*) from catalog.t_product", Long.class));
+    }
+
+    @Test
+    void createProducts_RequestIsNotArray_ReturnsBadRequest() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"title": "Чоколадка", "details": "Очень вкусная чоколадка"}""")
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest()
+                );
+    }
+
+    @Test
+    void createProducts_UserIsNotAuthorized_ReturnsForbidden() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [{"title": "Чоколадка", "details": "Очень вкусная чоколадка"}]""")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isForbidden()
+                );
+    }
+}
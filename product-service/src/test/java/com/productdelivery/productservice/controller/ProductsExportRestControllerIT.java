@@ -0,0 +1,82 @@
+package com.productdelivery.productservice.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql("/sql/products.sql")
+@Sql(statements = "delete from catalog.t_product", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ProductsExportRestControllerIT {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void exportNdjson_ReturnsAllProducts() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products:export")
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        // when
+        var mvcResult = this.mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(Duration.ofMinutes(30).toMillis(), mvcResult.getRequest().getAsyncContext().getTimeout());
+
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON),
+                        content().string("""
+                                {"id":1,"title":"Товар №1","details":"Описание товара №1"}
+                                {"id":2,"title":"Чоколадка","details":"Вкуснейшая"}
+                                {"id":3,"title":"Товар №3","details":"Описание товара №3"}
+                                {"id":4,"title":"Кефирка бутыла","details":"Жирность 3,2%"}""")
+                );
+    }
+
+    @Test
+    void exportCsv_ReturnsAllProducts() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products:export")
+                .accept("text/csv");
+
+        // when
+        var mvcResult = this.mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith("text/csv"),
+                        content().string("""
+                                id,title,details
+                                1,"Товар №1","Описание товара №1"
+                                2,Чоколадка,Вкуснейшая
+                                3,"Товар №3","Описание товара №3"
+                                4,"Кефирка бутыла","Жирность 3,2%"
+                                """)
+                );
+    }
+}
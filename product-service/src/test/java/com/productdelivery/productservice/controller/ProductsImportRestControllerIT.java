@@ -0,0 +1,136 @@
+package com.productdelivery.productservice.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(statements = "select setval('catalog.t_product_id_seq', 1, false)",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ProductsImportRestControllerIT {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importCsv_RequestContainsInvalidRows_ImportsValidRows() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:import")
+                .contentType("text/csv")
+                .content("""
+                        title,details
+                        Чоколадка,"Очень вкусная, молочная чоколадка"
+                        ,Товар без названия
+                        "Кефирка ""Домашняя\""",Жирность 3.2%
+                        """)
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                {
+                                    "imported": 2,
+                                    "rejected": 1,
+                                    "rejections": [
+                                        {"row": 2, "errors": ["Название товара должно быть указано"]}
+                                    ]
+                                }""")
+                );
+
+        assertEquals(List.of("Чоколадка", "Кефирка \"Домашняя\""),
+                this.jdbcTemplate.queryForList("select c_title from catalog.t_product order by id", String.class));
+        List<Integer> ids = this.jdbcTemplate.queryForList("select id from catalog.t_product order by id",
+                Integer.class);
+        assertEquals(ids.get(0) + 1, ids.get(1));
+    }
+
+    @Test
+    void importCsv_RowIsMalformed_ReturnsBadRequestNamingRow() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:import")
+                .contentType("text/csv")
+                .content("""
+                        title,details
+                        Чоколадка,Очень вкусная чоколадка
+                        "Кефирка,Жирность 3.2%
+                        """)
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest(),
+                        status().reason("Не удалось прочитать строку 2")
+                );
+
+        assertEquals(0, this.jdbcTemplate.queryForObject("select count(*) from catalog.t_product", Integer.class));
+    }
+
+    @Test
+    void importNdjson_RequestContainsInvalidRows_ImportsValidRows() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.post("/catalog-api/products:import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                        {"title": "Чоколадка", "details": "Очень вкусная чоколадка"}
+                        {"title": "  a ", "details": null}
+                        {"title": "Кефирка
+                        {"title": "Кефирка бутыла", "details": "Жирность 3,2%"}
+                        {"title": "Ряженка\\u0000", "details": null}
+                        """)
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                {
+                                    "imported": 2,
+                                    "rejected": 3,
+                                    "rejections": [
+                                        {"row": 2, "errors": ["Название товара должно быть от 3 до 50 символов"]},
+                                        {"row": 3, "errors": ["Не удалось прочитать описание товара"]},
+                                        {"row": 5, "errors": ["Не удалось прочитать описание товара"]}
+                                    ]
+                                }""")
+                );
+
+        assertEquals(List.of("Чоколадка", "Кефирка бутыла"),
+                this.jdbcTemplate.queryForList("select c_title from catalog.t_product order by id", String.class));
+    }
+}
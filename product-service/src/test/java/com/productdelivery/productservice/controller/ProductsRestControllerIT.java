@@ -50,6 +50,168 @@ class ProductsRestControllerIT {
                 );
     }
 
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_LimitIsSet_ReturnsProductsPageWithContinuationToken() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products")
+                .param("after", "1")
+                .param("limit", "2")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(ProductsPages.CONTINUATION_TOKEN_HEADER, "3"),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"id": 2, "title": "Чоколадка", "details": "Вкуснейшая"},
+                                    {"id": 3, "title": "Товар №3", "details": "Описание товара №3"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_FilterAndLimitAreSet_ReturnsSearchPageWithContinuationToken() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products")
+                .param("filter", "товар")
+                .param("after", ProductsPages.searchToken(1, "Товар №1"))
+                .param("limit", "1")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(ProductsPages.CONTINUATION_TOKEN_HEADER,
+                                ProductsPages.searchToken(3, "Товар №3")),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"id": 3, "title": "Товар №3", "details": "Описание товара №3"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    @Sql(statements = "delete from catalog.t_product where id = 1")
+    void findProducts_ProductEndingPreviousSearchPageIsDeleted_ReturnsNextSearchPage() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products")
+                .param("filter", "товар")
+                .param("after", ProductsPages.searchToken(1, "Товар №1"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"id": 3, "title": "Товар №3", "details": "Описание товара №3"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    void findProducts_SearchContinuationTokenIsInvalid_ReturnsBadRequest() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products")
+                .param("filter", "товар")
+                .param("after", "1")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest()
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_FilterMatchesDetails_ReturnsProductsList() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products")
+                .param("filter", "вкуснейшая")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"id": 2, "title": "Чоколадка", "details": "Вкуснейшая"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_FieldsAreSet_ReturnsProductSummaries() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products")
+                .param("filter", "товар")
+                .param("fields", "id,title")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"id": 1, "title": "Товар №1"},
+                                    {"id": 3, "title": "Товар №3"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_IdsAreSet_ReturnsRequestedProducts() throws Exception {
+        // given
+        var requestBuilder = MockMvcRequestBuilders.get("/catalog-api/products")
+                .param("ids", "4,2,10")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalog")));
+
+        // when
+        this.mockMvc.perform(requestBuilder)
+                // then
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        header().doesNotExist("X-Continuation-Token"),
+                        content().json("""
+                                [
+                                    {"id": 2, "title": "Чоколадка", "details": "Вкуснейшая"},
+                                    {"id": 4, "title": "Кефирка бутыла", "details": "Жирность 3,2%"}
+                                ]""")
+                );
+    }
+
     @Test
     void createProduct_RequestIsValid_ReturnsNewProduct() throws Exception {
         //given
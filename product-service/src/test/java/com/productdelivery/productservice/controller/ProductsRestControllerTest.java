@@ -2,6 +2,7 @@ package com.productdelivery.productservice.controller;
 
 import com.productdelivery.productservice.controller.payload.NewProductPayload;
 import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
 import com.productdelivery.productservice.service.ProductService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,16 +13,21 @@ import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.MapBindingResult;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -42,14 +48,130 @@ class ProductsRestControllerTest {
         doReturn(List.of(new Product(1, "Товар №1", "Описание товара №1"),
                 new Product(2, "Товар №2", "Описание товара №2")))
                 .when(this.productService)
-                .findAllProducts("товар");
+                .searchProducts("товар", 0, "", 100);
 
         // when
-        var result = this.restController.findProducts(filter);
+        var result = this.restController.findProducts(filter, "0", 100, null, null);
 
         // then
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(new Product(1, "Товар №1", "Описание товара №1"),
+                new Product(2, "Товар №2", "Описание товара №2")), result.getBody());
+        assertNull(result.getHeaders().getFirst(ProductsPages.CONTINUATION_TOKEN_HEADER));
+    }
+
+    @Test
+    void findProducts_PageIsFull_ReturnsContinuationToken() {
+        // given
+        doReturn(List.of(new Product(3, "Товар №3", "Описание товара №3"),
+                new Product(4, "Товар №4", "Описание товара №4")))
+                .when(this.productService)
+                .findAllProducts(2, 2);
+
+        // when
+        var result = this.restController.findProducts(null, "2", 2, null, null);
+
+        // then
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(new Product(3, "Товар №3", "Описание товара №3"),
+                new Product(4, "Товар №4", "Описание товара №4")), result.getBody());
+        assertEquals("4", result.getHeaders().getFirst(ProductsPages.CONTINUATION_TOKEN_HEADER));
+    }
+
+    @Test
+    void findProducts_SearchPageIsFull_ReturnsIdAndTitleInContinuationToken() {
+        // given
+        doReturn(List.of(new Product(3, "Товар №3", "Описание товара №3")))
+                .when(this.productService)
+                .searchProducts("товар", 1, "Товар №1", 1);
+
+        // when
+        var result = this.restController.findProducts("товар", ProductsPages.searchToken(1, "Товар №1"), 1,
+                null, null);
+
+        // then
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(new Product(3, "Товар №3", "Описание товара №3")), result.getBody());
+        assertEquals(new ProductsPages.SearchAfter(3, "Товар №3"),
+                ProductsPages.searchAfter(result.getHeaders().getFirst(ProductsPages.CONTINUATION_TOKEN_HEADER)));
+    }
+
+    @Test
+    void findProducts_ContinuationTokenIsInvalid_ThrowsResponseStatusException() {
+        // when
+        var exception = assertThrows(ResponseStatusException.class,
+                () -> this.restController.findProducts(null, "Товар", 100, null, null));
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoMoreInteractions(this.productService);
+    }
+
+    @Test
+    void findProducts_FieldsExcludeDetails_ReturnsProductSummaries() {
+        // given
+        var summaries = List.of(mock(ProductSummary.class), mock(ProductSummary.class));
+
+        doReturn(summaries).when(this.productService).findAllProductSummaries(0, 100);
+
+        // when
+        var result = this.restController.findProducts(null, "0", 100, Set.of("id", "title"), null);
+
+        // then
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(summaries, result.getBody());
+
+        verify(this.productService).findAllProductSummaries(0, 100);
+        verifyNoMoreInteractions(this.productService);
+    }
+
+    @Test
+    void findProducts_IdsAreSet_ReturnsRequestedProducts() {
+        // given
+        doReturn(List.of(new Product(1, "Товар №1", "Описание товара №1"),
+                new Product(3, "Товар №3", "Описание товара №3")))
+                .when(this.productService)
+                .findProductsByIds(Set.of(1, 3));
+
+        // when
+        var result = this.restController.findProducts(null, "0", 100, null, Set.of(1, 3));
+
+        // then
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(List.of(new Product(1, "Товар №1", "Описание товара №1"),
-                new Product(2, "Товар №2", "Описание товара №2")), result);
+                new Product(3, "Товар №3", "Описание товара №3")), result.getBody());
+        assertNull(result.getHeaders().getFirst(ProductsPages.CONTINUATION_TOKEN_HEADER));
+
+        verify(this.productService).findProductsByIds(Set.of(1, 3));
+        verifyNoMoreInteractions(this.productService);
+    }
+
+    @Test
+    void findProducts_SummariesOfSameProducts_ReturnsDifferentETag() {
+        // given
+        var summary = mock(ProductSummary.class);
+        doReturn(1).when(summary).getId();
+        doReturn(0).when(summary).getVersion();
+        doReturn(List.of(new Product(1, "Товар №1", "Описание товара №1", 0)))
+                .when(this.productService)
+                .findProductsByIds(Set.of(1));
+        doReturn(List.of(summary))
+                .when(this.productService)
+                .findProductSummariesByIds(Set.of(1));
+
+        // when
+        var products = this.restController.findProducts(null, "0", 100, null, Set.of(1));
+        var summaries = this.restController.findProducts(null, "0", 100, Set.of("id", "title"), Set.of(1));
+
+        // then
+        assertNotNull(products.getHeaders().getETag());
+        assertNotNull(summaries.getHeaders().getETag());
+        assertNotEquals(products.getHeaders().getETag(), summaries.getHeaders().getETag());
     }
 
     @Test
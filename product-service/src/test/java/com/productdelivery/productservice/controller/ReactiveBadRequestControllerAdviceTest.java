@@ -0,0 +1,56 @@
+package com.productdelivery.productservice.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveBadRequestControllerAdviceTest {
+
+    @Mock
+    MessageSource messageSource;
+
+    @InjectMocks
+    ReactiveBadRequestControllerAdvice controllerAdvice;
+
+    @Test
+    void handleWebExchangeBindException_ReturnsBadRequestWithErrors() throws NoSuchMethodException {
+        // given
+        var bindingResult = new MapBindingResult(Map.of(), "payload");
+        bindingResult.addError(new FieldError("payload", "title", "Название товара должно быть указано"));
+        var exception = new WebExchangeBindException(new MethodParameter(ReactiveProductsRestController.class
+                .getMethod("createProduct", Mono.class, UriComponentsBuilder.class), 0), bindingResult);
+
+        doReturn("Запрос содержит ошибки").when(this.messageSource)
+                .getMessage("error.400.title", new Object[0], "error.400.title", Locale.of("ru"));
+
+        // when
+        StepVerifier.create(this.controllerAdvice.handleWebExchangeBindException(exception, Locale.of("ru")))
+                // then
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+                    assertEquals("Запрос содержит ошибки", result.getBody().getDetail());
+                    assertEquals(List.of("Название товара должно быть указано"),
+                            result.getBody().getProperties().get("errors"));
+                })
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,120 @@
+package com.productdelivery.productservice.controller;
+
+import com.productdelivery.productservice.controller.payload.UpdateProductPayload;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.service.ReactiveProductService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductRestControllerTest {
+
+    @Mock
+    ReactiveProductService productService;
+
+    @Mock
+    MessageSource messageSource;
+
+    @InjectMocks
+    ReactiveProductRestController restController;
+
+    @Test
+    void findProduct_ProductExists_ReturnsProductWithETag() {
+        // given
+        doReturn(Mono.just(new Product(1, "Новый товар", "Описание нового товара", 2)))
+                .when(this.productService).findProduct(1);
+
+        // when
+        StepVerifier.create(this.restController.findProduct(1))
+                // then
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.OK, result.getStatusCode());
+                    assertEquals("\"1-2\"", result.getHeaders().getETag());
+                    assertEquals(new Product(1, "Новый товар", "Описание нового товара"), result.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findProduct_ProductDoesNotExist_ReturnsNoSuchElementException() {
+        // given
+        doReturn(Mono.empty()).when(this.productService).findProduct(1);
+
+        // when
+        StepVerifier.create(this.restController.findProduct(1))
+                // then
+                .expectErrorMatches(exception -> exception instanceof NoSuchElementException
+                        && exception.getMessage().equals("catalog.errors.product.not_found"))
+                .verify();
+    }
+
+    @Test
+    void updateProduct_ProductExists_ReturnsNoContent() {
+        // given
+        doReturn(Mono.just(new Product(1, "Товар №1", "Описание товара №1"))).when(this.productService)
+                .findProduct(1);
+        doReturn(Mono.empty()).when(this.productService)
+                .updateProduct(1, "Новый товар", "Описание нового товара");
+
+        // when
+        StepVerifier.create(this.restController.updateProduct(1,
+                        Mono.just(new UpdateProductPayload("Новый товар", "Описание нового товара"))))
+                // then
+                .assertNext(result -> assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode()))
+                .verifyComplete();
+
+        verify(this.productService).updateProduct(1, "Новый товар", "Описание нового товара");
+    }
+
+    @Test
+    void deleteProduct_ProductExists_ReturnsNoContent() {
+        // given
+        doReturn(Mono.just(new Product(1, "Товар №1", "Описание товара №1"))).when(this.productService)
+                .findProduct(1);
+        doReturn(Mono.empty()).when(this.productService).deleteProduct(1);
+
+        // when
+        StepVerifier.create(this.restController.deleteProduct(1))
+                // then
+                .assertNext(result -> assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode()))
+                .verifyComplete();
+
+        verify(this.productService).deleteProduct(1);
+    }
+
+    @Test
+    void handleNoSuchElementException_ReturnsNotFound() {
+        // given
+        var exception = new NoSuchElementException("error_code");
+        var locale = Locale.of("ru");
+
+        doReturn("error details").when(this.messageSource)
+                .getMessage("error_code", new Object[0], "error_code", Locale.of("ru"));
+
+        // when
+        StepVerifier.create(this.restController.handleNoSuchElementException(exception, locale))
+                // then
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+                    assertEquals("error details", result.getBody().getDetail());
+                })
+                .verifyComplete();
+
+        verifyNoMoreInteractions(this.productService);
+    }
+}
@@ -0,0 +1,128 @@
+package com.productdelivery.productservice.controller;
+
+import com.productdelivery.productservice.controller.payload.NewProductPayload;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.service.ReactiveProductService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductsRestControllerTest {
+
+    @Mock
+    ReactiveProductService productService;
+
+    @InjectMocks
+    ReactiveProductsRestController restController;
+
+    @Test
+    void findProducts_PageIsFull_ReturnsContinuationToken() {
+        // given
+        doReturn(Flux.just(new Product(3, "Товар №3", "Описание товара №3"),
+                new Product(4, "Товар №4", "Описание товара №4")))
+                .when(this.productService)
+                .findAllProducts(2, 2);
+
+        // when
+        StepVerifier.create(this.restController.findProducts(null, "2", 2, null, null))
+                // then
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.OK, result.getStatusCode());
+                    assertEquals(List.of(new Product(3, "Товар №3", "Описание товара №3"),
+                            new Product(4, "Товар №4", "Описание товара №4")), result.getBody());
+                    assertEquals("4", result.getHeaders().getFirst(ProductsPages.CONTINUATION_TOKEN_HEADER));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findProducts_FilterIsSet_ReturnsFoundProducts() {
+        // given
+        doReturn(Flux.just(new Product(1, "Товар №1", "Описание товара №1")))
+                .when(this.productService)
+                .searchProducts("товар", 0, "", 100);
+
+        // when
+        StepVerifier.create(this.restController.findProducts(" товар ", "0", 100, null, null))
+                // then
+                .assertNext(result -> {
+                    assertEquals(List.of(new Product(1, "Товар №1", "Описание товара №1")), result.getBody());
+                    assertNull(result.getHeaders().getFirst(ProductsPages.CONTINUATION_TOKEN_HEADER));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findProducts_TooManyIdsAreSet_ThrowsBadRequest() {
+        // given
+        var ids = IntStream.rangeClosed(1, 1001).boxed().collect(Collectors.toSet());
+
+        // when
+        var exception = assertThrows(ResponseStatusException.class,
+                () -> this.restController.findProducts(null, "0", 100, null, ids));
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(this.productService);
+    }
+
+    @Test
+    void findProducts_IdsAreSet_ReturnsRequestedProducts() {
+        // given
+        doReturn(Flux.just(new Product(1, "Товар №1", "Описание товара №1"),
+                new Product(3, "Товар №3", "Описание товара №3")))
+                .when(this.productService)
+                .findProductsByIds(Set.of(1, 3));
+
+        // when
+        StepVerifier.create(this.restController.findProducts(null, "0", 100, null, Set.of(1, 3)))
+                // then
+                .assertNext(result -> {
+                    assertEquals(List.of(new Product(1, "Товар №1", "Описание товара №1"),
+                            new Product(3, "Товар №3", "Описание товара №3")), result.getBody());
+                    assertNull(result.getHeaders().getFirst(ProductsPages.CONTINUATION_TOKEN_HEADER));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void createProduct_ReturnsCreatedProduct() {
+        // given
+        doReturn(Mono.just(new Product(1, "Новый товар", "Описание нового товара")))
+                .when(this.productService).createProduct("Новый товар", "Описание нового товара");
+
+        // when
+        StepVerifier.create(this.restController.createProduct(
+                        Mono.just(new NewProductPayload("Новый товар", "Описание нового товара")),
+                        UriComponentsBuilder.fromUriString("http://localhost")))
+                // then
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.CREATED, result.getStatusCode());
+                    assertEquals(URI.create("http://localhost/catalog-api/products/1"),
+                            result.getHeaders().getLocation());
+                    assertEquals(new Product(1, "Новый товар", "Описание нового товара"), result.getBody());
+                })
+                .verifyComplete();
+    }
+}
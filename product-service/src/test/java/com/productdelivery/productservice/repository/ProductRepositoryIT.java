@@ -5,12 +5,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @Sql("/sql/products.sql")
@@ -21,15 +25,96 @@ class ProductRepositoryIT {
     @Autowired
     ProductRepository productRepository;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Test
-    void findAllByTitleLikeIgnoreCase_ReturnsFilteredProductsList() {
+    void searchAllByTitleOrDetails_ReturnsFilteredProductsList() {
         // given
-        var filter = "%Чоколадка%";
+        var query = "Чоколадка";
 
         // when
-        var products = this.productRepository.findAllByTitleLikeIgnoreCase(filter);
+        var products = this.productRepository.searchAllByTitleOrDetails(query, "%Чоколадка%", 0, "", 10);
 
         // then
         assertEquals(List.of(new Product(2, "Чоколадка", "Вкуснейшая")), products);
     }
+
+    @Test
+    void searchAllByTitleOrDetails_QueryMatchesDetails_ReturnsProductsList() {
+        // given
+        var query = "жирность";
+
+        // when
+        var products = this.productRepository.searchAllByTitleOrDetails(query, "%жирность%", 0, "", 10);
+
+        // then
+        assertEquals(List.of(new Product(4, "Кефирка бутыла", "Жирность 3,2%")), products);
+    }
+
+    @Test
+    void searchAllByTitleOrDetails_AfterIsSet_ContinuesInSearchOrder() {
+        // given
+        var query = "а";
+        var allProducts = this.productRepository.searchAllByTitleOrDetails(query, "%а%", 0, "", 10);
+
+        // when
+        var products = new ArrayList<Product>();
+        var after = 0;
+        var afterTitle = "";
+        List<Product> page;
+        do {
+            page = this.productRepository.searchAllByTitleOrDetails(query, "%а%", after, afterTitle, 1);
+            products.addAll(page);
+            if (!page.isEmpty()) {
+                after = page.get(0).getId();
+                afterTitle = page.get(0).getTitle();
+            }
+        } while (!page.isEmpty() && products.size() <= allProducts.size());
+
+        // then
+        assertEquals(4, allProducts.size());
+        assertEquals(allProducts, products);
+    }
+
+    @Test
+    void searchAllByTitleOrDetails_ProductEndingPreviousPageIsDeleted_ContinuesInSearchOrder() {
+        // given
+        var query = "товар";
+        this.jdbcTemplate.update("delete from catalog.t_product where id = 1");
+
+        // when
+        var products = this.productRepository.searchAllByTitleOrDetails(query, "%товар%", 1, "Товар №1", 10);
+
+        // then
+        assertEquals(List.of(new Product(3, "Товар №3", "Описание товара №3")), products);
+    }
+
+    @Test
+    void searchPredicate_UsesTrigramIndexes() {
+        // given
+        this.jdbcTemplate.execute("set local enable_seqscan = off");
+
+        // when
+        var plan = String.join("\n", this.jdbcTemplate.queryForList("""
+                explain select * from catalog.t_product p
+                where p.c_title ilike '%товар%' or p.c_details ilike '%товар%'""", String.class));
+
+        // then
+        assertTrue(plan.contains("idx_product_title_trgm"), plan);
+        assertTrue(plan.contains("idx_product_details_trgm"), plan);
+    }
+
+    @Test
+    void findAllByIdGreaterThanOrderByIdAsc_ReturnsNextProductsPage() {
+        // given
+        var after = 1;
+
+        // when
+        var products = this.productRepository.findAllByIdGreaterThanOrderByIdAsc(after, Limit.of(2));
+
+        // then
+        assertEquals(List.of(new Product(2, "Чоколадка", "Вкуснейшая"),
+                new Product(3, "Товар №3", "Описание товара №3")), products);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.productdelivery.productservice.repository;
+
+import com.productdelivery.productservice.config.ReactiveDatabaseInitializer;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.model.ProductSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+@ContextConfiguration(initializers = ReactiveDatabaseInitializer.class)
+class ReactiveProductRepositoryIT {
+
+    @MockBean
+    ReactiveJwtDecoder reactiveJwtDecoder;
+
+    @MockBean
+    ReactiveClientRegistrationRepository clientRegistrationRepository;
+
+    @Autowired
+    ReactiveProductRepository productRepository;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        this.databaseClient.sql("""
+                        insert into catalog.t_product (id, c_title, c_details)
+                        values (1, 'Товар №1', 'Описание товара №1'),
+                               (2, 'Чоколадка', 'Вкуснейшая'),
+                               (3, 'Товар №3', 'Описание товара №3'),
+                               (4, 'Кефирка бутыла', 'Жирность 3,2%')""")
+                .then()
+                .block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.databaseClient.sql("delete from catalog.t_product").then().block();
+    }
+
+    @Test
+    void findAllByIdGreaterThanOrderByIdAsc_ReturnsNextProductsPage() {
+        // when
+        StepVerifier.create(this.productRepository.findAllByIdGreaterThanOrderByIdAsc(1, 2))
+                // then
+                .expectNext(new Product(2, "Чоколадка", "Вкуснейшая"),
+                        new Product(3, "Товар №3", "Описание товара №3"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findSummariesByIdGreaterThanOrderByIdAsc_ReturnsNextSummariesPage() {
+        // when
+        StepVerifier.create(this.productRepository.findSummariesByIdGreaterThanOrderByIdAsc(2, 10)
+                        .map(ReactiveProductRepositoryIT::describe)
+                        .collectList())
+                // then
+                .expectNext(List.of("3:Товар №3:0", "4:Кефирка бутыла:0"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findAllByIdInOrderByIdAsc_ReturnsRequestedProducts() {
+        // when
+        StepVerifier.create(this.productRepository.findAllByIdInOrderByIdAsc(List.of(4, 1, 5)))
+                // then
+                .expectNext(new Product(1, "Товар №1", "Описание товара №1"),
+                        new Product(4, "Кефирка бутыла", "Жирность 3,2%"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findSummariesByIdInOrderByIdAsc_ReturnsRequestedSummaries() {
+        // when
+        StepVerifier.create(this.productRepository.findSummariesByIdInOrderByIdAsc(List.of(3, 2))
+                        .map(ReactiveProductRepositoryIT::describe)
+                        .collectList())
+                // then
+                .expectNext(List.of("2:Чоколадка:0", "3:Товар №3:0"))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchAllByTitleOrDetails_QueryMatchesDetails_ReturnsProducts() {
+        // when
+        StepVerifier.create(this.productRepository.searchAllByTitleOrDetails("вкус", "%вкус%", 0, "", 10))
+                // then
+                .expectNext(new Product(2, "Чоколадка", "Вкуснейшая"))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchAllByTitleOrDetails_AfterIsSet_ContinuesAfterDeletedProduct() {
+        // given
+        this.databaseClient.sql("delete from catalog.t_product where id = 1").then().block();
+
+        // when
+        StepVerifier.create(this.productRepository.searchAllByTitleOrDetails("товар", "%товар%",
+                        1, "Товар №1", 10))
+                // then
+                .expectNext(new Product(3, "Товар №3", "Описание товара №3"))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchSummariesByTitleOrDetails_AfterIsSet_ContinuesInSearchOrder() {
+        // when
+        StepVerifier.create(this.productRepository.searchSummariesByTitleOrDetails("товар", "%товар%",
+                                0, "", 1)
+                        .concatWith(this.productRepository.searchSummariesByTitleOrDetails("товар", "%товар%",
+                                1, "Товар №1", 1))
+                        .map(ReactiveProductRepositoryIT::describe)
+                        .collectList())
+                // then
+                .expectNext(List.of("1:Товар №1:0", "3:Товар №3:0"))
+                .verifyComplete();
+    }
+
+    private static String describe(ProductSummary summary) {
+        return "%d:%s:%d".formatted(summary.getId(), summary.getTitle(), summary.getVersion());
+    }
+}
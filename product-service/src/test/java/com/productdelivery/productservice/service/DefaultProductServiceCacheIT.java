@@ -0,0 +1,121 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.config.CacheBeans;
+import com.productdelivery.productservice.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs without a test transaction, the cache is only updated once a transaction commits
+ * */
+@SpringBootTest
+class DefaultProductServiceCacheIT {
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        this.cache().clear();
+        this.jdbcTemplate.update("delete from catalog.t_product");
+    }
+
+    @Test
+    void findProduct_ProductIsCreated_ReturnsCachedProduct() {
+        // given
+        var product = this.productService.createProduct("Чоколадка", "Очень вкусная чоколадка");
+        double hits = this.cacheGets("hit");
+
+        // when
+        var result = this.productService.findProduct(product.getId());
+
+        // then
+        assertEquals(product, result.orElseThrow());
+        assertEquals(hits + 1, this.cacheGets("hit"));
+    }
+
+    @Test
+    void findProduct_ProductIsNotCached_CachesProductOnMiss() {
+        // given
+        var product = this.productService.createProduct("Чоколадка", "Очень вкусная чоколадка");
+        this.cache().clear();
+        double misses = this.cacheGets("miss");
+
+        // when
+        var result = this.productService.findProduct(product.getId());
+
+        // then
+        assertEquals(product, result.orElseThrow());
+        assertEquals(misses + 1, this.cacheGets("miss"));
+        assertEquals(product, this.cache().get(product.getId(), Product.class));
+    }
+
+    @Test
+    void updateProduct_TransactionCommits_EvictsProductAfterCommit() {
+        // given
+        var product = this.productService.createProduct("Чоколадка", "Очень вкусная чоколадка");
+
+        // when
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.productService.updateProduct(product.getId(), "Молочная чоколадка", "Очень вкусная чоколадка");
+
+            // then
+            assertNotNull(this.cache().get(product.getId()));
+        });
+        assertNull(this.cache().get(product.getId()));
+        assertEquals(new Product(product.getId(), "Молочная чоколадка", "Очень вкусная чоколадка"),
+                this.productService.findProduct(product.getId()).orElseThrow());
+    }
+
+    @Test
+    void updateProduct_TransactionRollsBack_KeepsCachedProduct() {
+        // given
+        var product = this.productService.createProduct("Чоколадка", "Очень вкусная чоколадка");
+
+        // when
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.productService.updateProduct(product.getId(), "Молочная чоколадка", "Очень вкусная чоколадка");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(product, this.cache().get(product.getId(), Product.class));
+    }
+
+    Cache cache() {
+        return Objects.requireNonNull(this.cacheManager.getCache(CacheBeans.PRODUCTS_CACHE));
+    }
+
+    double cacheGets(String result) {
+        return this.meterRegistry.get("cache.gets")
+                .tag("cache", CacheBeans.PRODUCTS_CACHE)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
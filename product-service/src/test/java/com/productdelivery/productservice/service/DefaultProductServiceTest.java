@@ -2,22 +2,30 @@ package com.productdelivery.productservice.service;
 
 import com.productdelivery.productservice.model.Product;
 import com.productdelivery.productservice.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,45 +34,66 @@ class DefaultProductServiceTest {
     @Mock
     ProductRepository productRepository;
 
+    @Mock
+    ProductCacheInvalidator productCacheInvalidator;
+
+    @Mock
+    EntityManager entityManager;
+
     @InjectMocks
     DefaultProductService service;
 
     @Test
-    void findAllProducts_FilterIsNotSet_ReturnsProductsList() {
+    void findAllProducts_ReturnsProductsPage() {
         // given
         var products = IntStream.range(1, 4)
                 .mapToObj(i -> new Product(i, "Товар №%d".formatted(i), "Описание товара №%d".formatted(i)))
                 .toList();
 
-        doReturn(products).when(this.productRepository).findAll();
+        doReturn(products).when(this.productRepository).findAllByIdGreaterThanOrderByIdAsc(0, Limit.of(100));
 
         // when
-        var result = this.service.findAllProducts(null);
+        var result = this.service.findAllProducts(0, 100);
 
         // then
         assertEquals(products, result);
 
-        verify(this.productRepository).findAll();
+        verify(this.productRepository).findAllByIdGreaterThanOrderByIdAsc(0, Limit.of(100));
         verifyNoMoreInteractions(this.productRepository);
     }
 
     @Test
-    void findAllProducts_FilterIsSet_ReturnsFilteredProductsList() {
+    void searchProducts_ReturnsFoundProductsList() {
         // given
-        var filter = "%товар%";
         var products = IntStream.range(1, 4)
                 .mapToObj(i -> new Product(i, "Товар №%d".formatted(i), "Описание товара №%d".formatted(i)))
                 .toList();
 
-        doReturn(products).when(this.productRepository).findAllByTitleLikeIgnoreCase(filter);
+        doReturn(products).when(this.productRepository).searchAllByTitleOrDetails("товар", "%товар%", 0, "", 100);
 
         // when
-        var result = this.service.findAllProducts("товар");
+        var result = this.service.searchProducts("товар", 0, "", 100);
 
         // then
         assertEquals(products, result);
 
-        verify(this.productRepository).findAllByTitleLikeIgnoreCase(filter);
+        verify(this.productRepository).searchAllByTitleOrDetails("товар", "%товар%", 0, "", 100);
+        verifyNoMoreInteractions(this.productRepository);
+    }
+
+    @Test
+    void searchProducts_QueryContainsWildcards_EscapesWildcards() {
+        // given
+        doReturn(List.of()).when(this.productRepository)
+                .searchAllByTitleOrDetails("100%_сок", "%100\\%\\_сок%", 0, "", 100);
+
+        // when
+        var result = this.service.searchProducts("100%_сок", 0, "", 100);
+
+        // then
+        assertTrue(result.isEmpty());
+
+        verify(this.productRepository).searchAllByTitleOrDetails("100%_сок", "%100\\%\\_сок%", 0, "", 100);
         verifyNoMoreInteractions(this.productRepository);
     }
 
@@ -81,6 +110,7 @@ class DefaultProductServiceTest {
         assertNotNull(result);
         assertTrue(result.isPresent());
         assertEquals(product, result.orElseThrow());
+        assertNotSame(product, result.orElseThrow());
 
         verify(this.productRepository).findById(1);
         verifyNoMoreInteractions(this.productRepository);
@@ -121,6 +151,56 @@ class DefaultProductServiceTest {
         verifyNoMoreInteractions(this.productRepository);
     }
 
+    @Test
+    void createProducts_ReturnsCreatedProducts() {
+        // given
+        var products = List.of(new Product(null, "Чоколадка", "Очень вкусная чоколадка"),
+                new Product(null, "Кефирка", "Жирность 3,2%"));
+
+        doReturn(List.of(new Product(1, "Чоколадка", "Очень вкусная чоколадка"),
+                new Product(2, "Кефирка", "Жирность 3,2%")))
+                .when(this.productRepository).saveAll(products);
+
+        // when
+        var result = this.service.createProducts(products.stream());
+
+        // then
+        assertEquals(List.of(new Product(1, "Чоколадка", "Очень вкусная чоколадка"),
+                new Product(2, "Кефирка", "Жирность 3,2%")), result);
+
+        verify(this.productRepository).saveAll(products);
+        verify(this.entityManager).flush();
+        verify(this.entityManager).clear();
+        verifyNoMoreInteractions(this.productRepository);
+    }
+
+    @Test
+    void createProducts_ProductsExceedChunk_SavesProductsInChunks() {
+        // given
+        var products = IntStream.rangeClosed(1, 501)
+                .mapToObj(i -> new Product(null, "Товар №%d".formatted(i), "Описание товара №%d".formatted(i)))
+                .toList();
+
+        doAnswer(invocation -> {
+            List<Product> chunk = invocation.getArgument(0);
+            return chunk.stream()
+                    .map(product -> new Product(products.indexOf(product) + 1, product.getTitle(),
+                            product.getDetails()))
+                    .toList();
+        }).when(this.productRepository).saveAll(anyList());
+
+        // when
+        var result = this.service.createProducts(products.stream());
+
+        // then
+        assertEquals(IntStream.rangeClosed(1, 501).boxed().toList(), result.stream().map(Product::getId).toList());
+
+        verify(this.productRepository, times(2)).saveAll(anyList());
+        verify(this.entityManager, times(2)).flush();
+        verify(this.entityManager, times(2)).clear();
+        verifyNoMoreInteractions(this.productRepository);
+    }
+
     @Test
     void updateProduct_ProductExists_UpdatesProduct() {
         // given
@@ -136,7 +216,8 @@ class DefaultProductServiceTest {
 
         // then
         verify(this.productRepository).findById(productId);
-        verifyNoMoreInteractions(this.productRepository);
+        verify(this.productCacheInvalidator).invalidate(productId);
+        verifyNoMoreInteractions(this.productRepository, this.productCacheInvalidator);
     }
 
     @Test
@@ -154,6 +235,7 @@ class DefaultProductServiceTest {
         // then
         verify(this.productRepository).findById(productId);
         verifyNoMoreInteractions(this.productRepository);
+        verifyNoInteractions(this.productCacheInvalidator);
     }
 
     @Test
@@ -166,6 +248,7 @@ class DefaultProductServiceTest {
 
         // then
         verify(this.productRepository).deleteById(1);
-        verifyNoMoreInteractions(this.productRepository);
+        verify(this.productCacheInvalidator).invalidate(1);
+        verifyNoMoreInteractions(this.productRepository, this.productCacheInvalidator);
     }
 }
\ No newline at end of file
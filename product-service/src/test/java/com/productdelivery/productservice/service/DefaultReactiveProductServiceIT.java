@@ -0,0 +1,108 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.config.ReactiveDatabaseInitializer;
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.repository.ReactiveProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.TransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+@ContextConfiguration(initializers = ReactiveDatabaseInitializer.class)
+class DefaultReactiveProductServiceIT {
+
+    @MockBean
+    ReactiveJwtDecoder reactiveJwtDecoder;
+
+    @MockBean
+    ReactiveClientRegistrationRepository clientRegistrationRepository;
+
+    @MockBean
+    ReactiveProductCacheInvalidator productCacheInvalidator;
+
+    @Autowired
+    ReactiveProductService service;
+
+    @Autowired
+    ReactiveProductRepository productRepository;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @AfterEach
+    void tearDown() {
+        this.databaseClient.sql("delete from catalog.t_product").then().block();
+    }
+
+    @Test
+    void context_ReactiveProfile_UsesOnlyR2dbcTransactionManager() {
+        // when
+        var transactionManagers = this.applicationContext.getBeansOfType(TransactionManager.class);
+
+        // then
+        assertEquals(1, transactionManagers.size());
+        assertInstanceOf(R2dbcTransactionManager.class, transactionManagers.values().iterator().next());
+    }
+
+    @Test
+    void createProduct_ProductsAreCreated_AssignsIdsFromOnePooledBlock() {
+        // given
+        this.databaseClient.sql("select setval('catalog.t_product_id_seq', 100)").then().block();
+
+        // when
+        StepVerifier.create(this.service.createProduct("Чоколадка", "Очень вкусная чоколадка")
+                        .concatWith(this.service.createProduct("Кефирка", "Жирность 3,2%"))
+                        .map(Product::getId)
+                        .collectList())
+                // then
+                .expectNext(List.of(101, 102))
+                .verifyComplete();
+
+        assertEquals(150L, this.databaseClient.sql("select last_value from catalog.t_product_id_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block());
+    }
+
+    @Test
+    void updateProduct_CacheInvalidationFails_RollsBackUpdate() {
+        // given
+        this.databaseClient.sql("""
+                        insert into catalog.t_product (id, c_title, c_details)
+                        values (1, 'Товар №1', 'Описание товара №1')""")
+                .then()
+                .block();
+        doReturn(Mono.error(new IllegalStateException())).when(this.productCacheInvalidator).invalidate(1);
+
+        // when
+        StepVerifier.create(this.service.updateProduct(1, "Чоколадка", "Очень вкусная чоколадка"))
+                // then
+                .verifyError(IllegalStateException.class);
+
+        StepVerifier.create(this.productRepository.findById(1))
+                .expectNext(new Product(1, "Товар №1", "Описание товара №1"))
+                .verifyComplete();
+    }
+}
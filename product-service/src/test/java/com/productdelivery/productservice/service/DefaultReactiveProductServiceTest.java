@@ -0,0 +1,138 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.model.Product;
+import com.productdelivery.productservice.repository.ReactiveProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.NoSuchElementException;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultReactiveProductServiceTest {
+
+    @Mock
+    ReactiveProductRepository productRepository;
+
+    @Mock
+    ReactiveProductCacheInvalidator productCacheInvalidator;
+
+    @Mock
+    ReactiveProductIdAllocator productIdAllocator;
+
+    @InjectMocks
+    DefaultReactiveProductService service;
+
+    @Test
+    void findAllProducts_ReturnsProductsPage() {
+        // given
+        doReturn(Flux.just(new Product(1, "Товар №1", "Описание товара №1"),
+                new Product(2, "Товар №2", "Описание товара №2")))
+                .when(this.productRepository).findAllByIdGreaterThanOrderByIdAsc(0, 100);
+
+        // when
+        StepVerifier.create(this.service.findAllProducts(0, 100))
+                // then
+                .expectNext(new Product(1, "Товар №1", "Описание товара №1"),
+                        new Product(2, "Товар №2", "Описание товара №2"))
+                .verifyComplete();
+
+        verify(this.productRepository).findAllByIdGreaterThanOrderByIdAsc(0, 100);
+        verifyNoMoreInteractions(this.productRepository);
+    }
+
+    @Test
+    void searchProducts_QueryContainsWildcards_EscapesWildcards() {
+        // given
+        doReturn(Flux.empty()).when(this.productRepository)
+                .searchAllByTitleOrDetails("100%_сок", "%100\\%\\_сок%", 0, "", 100);
+
+        // when
+        StepVerifier.create(this.service.searchProducts("100%_сок", 0, "", 100))
+                // then
+                .verifyComplete();
+
+        verify(this.productRepository).searchAllByTitleOrDetails("100%_сок", "%100\\%\\_сок%", 0, "", 100);
+        verifyNoMoreInteractions(this.productRepository);
+    }
+
+    @Test
+    void createProduct_ReturnsCreatedProduct() {
+        // given
+        doReturn(Mono.just(51)).when(this.productIdAllocator).nextId();
+        doReturn(Mono.just(new Product(51, "Чоколадка", "Очень вкусная чоколадка", 0)))
+                .when(this.productRepository)
+                .save(new Product(51, "Чоколадка", "Очень вкусная чоколадка"));
+
+        // when
+        StepVerifier.create(this.service.createProduct("Чоколадка", "Очень вкусная чоколадка"))
+                // then
+                .expectNext(new Product(51, "Чоколадка", "Очень вкусная чоколадка"))
+                .verifyComplete();
+
+        verify(this.productRepository).save(new Product(51, "Чоколадка", "Очень вкусная чоколадка"));
+        verifyNoMoreInteractions(this.productRepository);
+    }
+
+    @Test
+    void updateProduct_ProductExists_UpdatesProduct() {
+        // given
+        var product = new Product(1, "Товар №1", "Описание товара №1");
+        doReturn(Mono.just(product)).when(this.productRepository).findById(1);
+        doReturn(Mono.just(new Product(1, "Чоколадка", "Очень вкусная чоколадка")))
+                .when(this.productRepository).save(new Product(1, "Чоколадка", "Очень вкусная чоколадка"));
+        doReturn(Mono.empty()).when(this.productCacheInvalidator).invalidate(1);
+
+        // when
+        StepVerifier.create(this.service.updateProduct(1, "Чоколадка", "Очень вкусная чоколадка"))
+                // then
+                .verifyComplete();
+
+        verify(this.productRepository).findById(1);
+        verify(this.productRepository).save(new Product(1, "Чоколадка", "Очень вкусная чоколадка"));
+        verify(this.productCacheInvalidator).invalidate(1);
+        verifyNoMoreInteractions(this.productRepository, this.productCacheInvalidator);
+    }
+
+    @Test
+    void updateProduct_ProductDoesNotExist_ReturnsMonoWithNoSuchElementException() {
+        // given
+        doReturn(Mono.empty()).when(this.productRepository).findById(1);
+
+        // when
+        StepVerifier.create(this.service.updateProduct(1, "Чоколадка", "Очень вкусная чоколадка"))
+                // then
+                .expectError(NoSuchElementException.class)
+                .verify();
+
+        verify(this.productRepository).findById(1);
+        verifyNoMoreInteractions(this.productRepository);
+        verifyNoInteractions(this.productCacheInvalidator);
+    }
+
+    @Test
+    void deleteProduct_DeletesProduct() {
+        // given
+        doReturn(Mono.empty()).when(this.productRepository).deleteById(1);
+        doReturn(Mono.empty()).when(this.productCacheInvalidator).invalidate(1);
+
+        // when
+        StepVerifier.create(this.service.deleteProduct(1))
+                // then
+                .verifyComplete();
+
+        verify(this.productRepository).deleteById(1);
+        verify(this.productCacheInvalidator).invalidate(1);
+        verifyNoMoreInteractions(this.productRepository, this.productCacheInvalidator);
+    }
+}
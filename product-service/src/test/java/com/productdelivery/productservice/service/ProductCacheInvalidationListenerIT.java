@@ -0,0 +1,53 @@
+package com.productdelivery.productservice.service;
+
+import com.productdelivery.productservice.config.CacheBeans;
+import com.productdelivery.productservice.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ProductCacheInvalidationListenerIT {
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ProductCacheInvalidator productCacheInvalidator;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void invalidate_ProductIsCached_EvictsProductFromCache() throws InterruptedException {
+        // given
+        var cache = Objects.requireNonNull(this.cacheManager.getCache(CacheBeans.PRODUCTS_CACHE));
+        var lagTimer = this.meterRegistry.get("product.cache.invalidation.lag").timer();
+        // the listener clears the cache whenever it subscribes, so the entry is only put once it has
+        for (int attempt = 0; attempt < 50 && lagTimer.count() == 0; attempt++) {
+            this.productCacheInvalidator.invalidate(0);
+            Thread.sleep(100);
+        }
+        assertTrue(lagTimer.count() > 0);
+        var notificationsReceived = lagTimer.count();
+        cache.put(1, new Product(1, "Товар №1", "Описание товара №1"));
+
+        // when
+        this.productCacheInvalidator.invalidate(1);
+        for (int attempt = 0; attempt < 50 && lagTimer.count() == notificationsReceived; attempt++) {
+            Thread.sleep(100);
+        }
+
+        // then
+        assertEquals(notificationsReceived + 1, lagTimer.count());
+        assertNull(cache.get(1));
+    }
+}
@@ -0,0 +1,24 @@
+package com.productdelivery.virtualthreads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Times pinned virtual threads when asked for, the JFR recording stream behind it runs in every instance
+ * */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "productdelivery.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(meterRegistry);
+    }
+}
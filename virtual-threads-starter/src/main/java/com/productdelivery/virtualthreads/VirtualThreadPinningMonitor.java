@@ -0,0 +1,60 @@
+package com.productdelivery.virtualthreads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private final MeterRegistry meterRegistry;
+
+    private RecordingStream recordingStream;
+
+    @Override
+    public void start() {
+        Timer pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads stayed pinned to their carrier thread")
+                .register(this.meterRegistry);
+
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(VIRTUAL_THREAD_PINNED)
+                .withThreshold(THRESHOLD)
+                .withStackTrace();
+        this.recordingStream.onEvent(VIRTUAL_THREAD_PINNED, event -> {
+            pinnedTimer.record(event.getDuration());
+            if (log.isDebugEnabled() && event.getStackTrace() != null) {
+                List<RecordedFrame> frames = event.getStackTrace().getFrames();
+                log.debug("Virtual thread pinned for {} at {}", event.getDuration(),
+                        frames.subList(0, Math.min(frames.size(), 10)).stream()
+                                .map(frame -> frame.getMethod().getType().getName() + "."
+                                        + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                                .toList());
+            }
+        });
+        this.recordingStream.startAsync();
+    }
+
+    @Override
+    public void stop() {
+        this.recordingStream.close();
+        this.recordingStream = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.recordingStream != null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.productdelivery.virtualthreads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningAutoConfigurationTest {
+
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(VirtualThreadPinningAutoConfiguration.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void monitor_VirtualThreadsAreEnabled_IsNotStartedByDefault() {
+        // given
+        // when
+        this.contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                // then
+                .run(context -> assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty()));
+    }
+
+    @Test
+    void monitor_MonitorIsEnabledWithoutVirtualThreads_IsNotStarted() {
+        // given
+        // when
+        this.contextRunner
+                .withPropertyValues("productdelivery.virtual-threads.pinning-monitor.enabled=true")
+                // then
+                .run(context -> assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty()));
+    }
+
+    @Test
+    void monitor_MonitorAndVirtualThreadsAreEnabled_RegistersPinnedTimer() {
+        // given
+        // when
+        this.contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true",
+                        "productdelivery.virtual-threads.pinning-monitor.enabled=true")
+                // then
+                .run(context -> {
+                    assertTrue(context.getBean(VirtualThreadPinningMonitor.class).isRunning());
+                    assertNotNull(context.getBean(MeterRegistry.class).find("jvm.threads.virtual.pinned").timer());
+                });
+    }
+}